@@ -0,0 +1,32 @@
+package seedu.address.benchmarkutil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Generates the same persons for the same size and seed, so that benchmark runs can be compared.
+ */
+public class BenchmarkPersons {
+
+    public static final long DEFAULT_SEED = 42;
+
+    private BenchmarkPersons() {}
+
+    /**
+     * Returns {@code count} distinct persons generated from {@code seed}.
+     */
+    public static List<Person> generate(int count, long seed) {
+        return new ArrayList<>(new SyntheticDataGenerator(seed, count).asAddressBook().getPersonList());
+    }
+
+    /**
+     * Returns an address book of {@code count} persons generated from {@code seed}.
+     */
+    public static AddressBook generateAddressBook(int count, long seed) {
+        return new AddressBook(new SyntheticDataGenerator(seed, count).asAddressBook());
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing a typical input for each command word.
+ * Parsing does not look at the address book, so unlike the other benchmarks this one does not depend on its size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> INPUTS = Map.ofEntries(
+            Map.entry("add", "add n/John Doe dob/01/01/2001 p/98765432 e/johnd@example.com "
+                    + "a/311, Clementi Ave 2, #02-25 b/AB+ ap/Patient nok/Jane 91234567 t/friends t/owesMoney "
+                    + "mh/Diabetes mh/High Blood Pressure"),
+            Map.entry("edit", "edit 1 p/91234567 e/johndoe@example.com"),
+            Map.entry("delete", "delete 1"),
+            Map.entry("clear", "clear"),
+            Map.entry("find", "find alice bob charlie"),
+            Map.entry("list", "list patient"),
+            Map.entry("exit", "exit"),
+            Map.entry("help", "help"),
+            Map.entry("assign", "assign 2 1"),
+            Map.entry("assign delete", "assign delete JOHN DOE 2"),
+            Map.entry("schedule", "schedule add for patient 1 01/01/2099 1400"),
+            Map.entry("view", "view 2"),
+            // Followed by the path of a script created for the benchmark
+            Map.entry("run", "run continue "));
+
+    @Param({"add", "edit", "delete", "clear", "find", "list", "exit", "help", "assign", "assign delete", "schedule",
+        "view", "run"})
+    private String commandWord;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String input;
+    private Path scriptPath;
+
+    /**
+     * Looks up the input for the command word, and checks that it parses.
+     * The run command is given a script file that exists, as a user would give it.
+     */
+    @Setup(Level.Trial)
+    public void checkInput() throws IOException, ParseException {
+        input = INPUTS.get(commandWord);
+        if (commandWord.equals("run")) {
+            scriptPath = Files.createTempFile("benchmark", ".txt");
+            Files.writeString(scriptPath, INPUTS.get("list") + "\n");
+            input += scriptPath;
+        }
+        parser.parseCommand(input);
+    }
+
+    /**
+     * Deletes the script file created for the run command, if any.
+     */
+    @TearDown(Level.Trial)
+    public void deleteScript() throws IOException {
+        if (scriptPath != null) {
+            Files.delete(scriptPath);
+        }
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+}
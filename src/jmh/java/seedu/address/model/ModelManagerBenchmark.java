@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.collections.ObservableList;
+import seedu.address.benchmarkutil.BenchmarkPersons;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasAppointmentPredicate;
+import seedu.address.model.person.PersonHasCheckupPredicate;
+import seedu.address.model.person.PersonHasSameNamePredicate;
+
+/**
+ * Benchmarks filtering the persons shown by a {@code ModelManager} with each predicate the commands use, in the
+ * default order and sorted by their earliest checkups.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"all", "name", "appointment", "checkup", "sameName"})
+    private String predicateName;
+
+    private ModelManager modelManager;
+    private Predicate<Person> predicate;
+    private Predicate<Person> otherPredicate;
+
+    /**
+     * Creates a model of the generated persons, and the predicate to filter them with.
+     */
+    @Setup(Level.Trial)
+    public void createModel() {
+        AddressBook addressBook = BenchmarkPersons.generateAddressBook(size, BenchmarkPersons.DEFAULT_SEED);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        predicate = toPredicate(predicateName, addressBook.getPersonList().get(size / 2));
+        otherPredicate = Model.PREDICATE_SHOW_ALL_PERSONS.equals(predicate)
+                ? new PersonHasCheckupPredicate()
+                : Model.PREDICATE_SHOW_ALL_PERSONS;
+    }
+
+    /**
+     * Applies a different predicate in the default order before each call, as the model does not filter or sort again
+     * with an equal predicate or the same order.
+     */
+    @Setup(Level.Invocation)
+    public void resetFilter() {
+        modelManager.updateFilteredPersonList(otherPredicate);
+    }
+
+    /**
+     * Filters the persons with the predicate, and returns the filtered list so the work is not optimised away.
+     */
+    @Benchmark
+    public ObservableList<Person> updateFilteredPersonList() {
+        modelManager.updateFilteredPersonList(predicate);
+        return modelManager.getFilteredPersonList();
+    }
+
+    /**
+     * Filters the persons with the predicate and sorts them by their earliest checkups, as the checkup commands do.
+     */
+    @Benchmark
+    public ObservableList<Person> updateFilteredPersonListByEarliestCheckup() {
+        modelManager.updateFilteredPersonListByEarliestCheckup(predicate);
+        return modelManager.getFilteredPersonList();
+    }
+
+    private static Predicate<Person> toPredicate(String predicateName, Person person) {
+        switch (predicateName) {
+        case "all":
+            return Model.PREDICATE_SHOW_ALL_PERSONS;
+        case "name":
+            return new NameContainsKeywordsPredicate(List.of(person.getName().fullName.split(" ")[0]));
+        case "appointment":
+            return new PersonHasAppointmentPredicate(new Appointment("Nurse"));
+        case "checkup":
+            return new PersonHasCheckupPredicate();
+        case "sameName":
+            return new PersonHasSameNamePredicate(person.getName());
+        default:
+            throw new IllegalArgumentException("Unknown predicate: " + predicateName);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.BenchmarkPersons;
+
+/**
+ * Benchmarks adding, checking for and replacing persons in a {@code UniquePersonList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private Person absentPerson;
+    private UniquePersonList uniquePersonList;
+
+    /**
+     * Generates the persons, one more than {@code size} so that one of them is not in the list, and fills the list.
+     */
+    @Setup(Level.Trial)
+    public void fillList() {
+        persons = BenchmarkPersons.generate(size + 1, BenchmarkPersons.DEFAULT_SEED);
+        absentPerson = persons.remove(size);
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+    }
+
+    /**
+     * Adds a person to a full list, and returns the list so the work is not optimised away.
+     */
+    @Benchmark
+    public UniquePersonList add(FullList fullList) {
+        fullList.uniquePersonList.add(absentPerson);
+        return fullList.uniquePersonList;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return uniquePersonList.contains(persons.get(size / 2));
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return uniquePersonList.contains(absentPerson);
+    }
+
+    /**
+     * Replaces every person in the list, as loading or clearing the address book does.
+     */
+    @Benchmark
+    public UniquePersonList setPersons() {
+        uniquePersonList.setPersons(persons);
+        return uniquePersonList;
+    }
+
+    /**
+     * A list filled with the generated persons before each call, as adding a person changes it.
+     */
+    @State(Scope.Thread)
+    public static class FullList {
+        private UniquePersonList uniquePersonList;
+
+        /**
+         * Fills the list with the persons generated by {@code benchmark}.
+         */
+        @Setup(Level.Invocation)
+        public void fillList(UniquePersonListBenchmark benchmark) {
+            uniquePersonList = new UniquePersonList();
+            uniquePersonList.setPersons(benchmark.persons);
+        }
+    }
+}
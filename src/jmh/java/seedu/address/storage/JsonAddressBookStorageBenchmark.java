@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmarkutil.BenchmarkPersons;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks saving and loading the address book as a json file.
+ * Files are written without syncing them to the disk, so the results measure encoding rather than the disk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private Path filePath;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage storage;
+
+    /**
+     * Generates the address book, and saves it so that there is a file to load.
+     */
+    @Setup(Level.Trial)
+    public void saveAddressBook() throws IOException {
+        directory = Files.createTempDirectory("medibook-jmh");
+        filePath = directory.resolve("addressbook.json");
+        addressBook = BenchmarkPersons.generateAddressBook(size, BenchmarkPersons.DEFAULT_SEED);
+        storage = new JsonAddressBookStorage(filePath, false);
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the data file and the files saved next to it.
+     */
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Saves the address book with a new storage, so every person is encoded.
+     */
+    @Benchmark
+    public void saveAll() throws IOException {
+        new JsonAddressBookStorage(filePath, false).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves the address book again with the storage that saved it, as the app does after each command.
+     */
+    @Benchmark
+    public void saveUnchanged() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Initializes the components shared by the GUI ({@link MainApp}) and the command line ({@link HeadlessApp}).
+ * None of these steps load JavaFX, so the app can be started on a machine without a display.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns a {@code StorageManager} that saves the address book in the format and at the path of
+     * {@code userPrefs}, and the preferences through {@code userPrefsStorage}.
+     */
+    public static StorageManager initStorage(UserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(
+                userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath());
+        if (userPrefs.getAddressBookFormat() != AddressBookFormat.DATABASE) {
+            // A database writes each change on its own, so journaling the changes would only add work
+            addressBookStorage = new JournaledAddressBookStorage(addressBookStorage);
+        }
+        return new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from {@code missingDataSupplier} will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    public static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+            Supplier<ReadOnlyAddressBook> missingDataSupplier) {
+        ReadOnlyAddressBook initialData;
+        try {
+            initialData = readAddressBook(storage, missingDataSupplier);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Returns {@code storage}'s address book, or the data from {@code missingDataSupplier} if it is not found.
+     *
+     * @throws DataLoadingException if {@code storage}'s address book was found but could not be loaded.
+     */
+    public static ReadOnlyAddressBook readAddressBook(Storage storage,
+            Supplier<ReadOnlyAddressBook> missingDataSupplier) throws DataLoadingException {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+        if (!addressBookOptional.isPresent()) {
+            logger.info("Data file " + storage.getAddressBookFilePath() + " not found.");
+        }
+        return addressBookOptional.orElseGet(missingDataSupplier);
+    }
+}
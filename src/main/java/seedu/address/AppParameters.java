@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -16,6 +18,7 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_PREFIX = "--";
 
     private Path configPath;
 
@@ -31,8 +34,18 @@ public class AppParameters {
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, for when the application is started without JavaFX.
+     */
+    public static AppParameters parse(List<String> args) {
+        return parse(getNamedParameters(args));
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -44,6 +57,22 @@ public class AppParameters {
         return appParameters;
     }
 
+    /**
+     * Returns the named parameters in {@code args}, those of the form {@code --name=value}, the same way as
+     * {@link Application.Parameters#getNamed()} does.
+     */
+    public static Map<String, String> getNamedParameters(List<String> args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+        return namedParameters;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,274 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchExecutor;
+import seedu.address.logic.BatchResult;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a GUI. Commands are read a line at a time from a script file, or from the standard
+ * input if there is none, and the result of each command is printed to the standard output as text or as a line of
+ * JSON. The script can also be run as one batch, which is saved once at the end rather than after each command.
+ * JavaFX is never started, so this runs on machines without a display.
+ */
+public class HeadlessApp {
+
+    /** The argument that starts the application without a GUI. */
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String SCRIPT_PARAMETER = "script";
+    public static final String OUTPUT_PARAMETER = "output";
+    /** Runs the whole script as a batch, saved once at the end, with the given error policy. */
+    public static final String BATCH_PARAMETER = "batch";
+
+    public static final String MESSAGE_ERROR_FORMAT = "Error: %s";
+    public static final String MESSAGE_INVALID_OUTPUT_FORMAT = "Invalid output format %s, expected text or json";
+    public static final String MESSAGE_INVALID_SCRIPT_PATH = "Invalid script file %s";
+    public static final String MESSAGE_INVALID_BATCH = "Invalid batch error policy %s, expected stop or continue";
+    public static final String MESSAGE_INVALID_DATA_FILE = "Data file %s could not be loaded, no commands were run";
+
+    public static final int EXIT_SUCCESS = 0;
+    /** Some commands failed, but the others were executed. */
+    public static final int EXIT_COMMAND_FAILURE = 1;
+    /** The arguments were invalid, or the script or the data file could not be read or written. */
+    public static final int EXIT_APP_FAILURE = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * The formats in which the results of commands can be printed.
+     */
+    public enum OutputFormat {
+        /** The feedback of each command, or the error prefixed with {@code Error:}. */
+        TEXT,
+        /** A JSON object on a line for each command. */
+        JSON
+    }
+
+    private final Logic logic;
+    private final OutputFormat outputFormat;
+
+    /**
+     * Creates an app that executes commands through {@code logic} and prints their results in {@code outputFormat}.
+     */
+    public HeadlessApp(Logic logic, OutputFormat outputFormat) {
+        requireNonNull(logic);
+        requireNonNull(outputFormat);
+        this.logic = logic;
+        this.outputFormat = outputFormat;
+    }
+
+    /**
+     * Executes each command read from {@code in} and prints its result to {@code out}, until {@code in} ends or
+     * a command asks the app to exit. A command that fails does not stop the commands after it.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if {@code in} could not be read.
+     */
+    public int run(BufferedReader in, PrintWriter out) throws IOException {
+        int failureCount = 0;
+        int lineNumber = 0;
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+            lineNumber++;
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(BatchExecutor.COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                printSuccess(out, lineNumber, commandText, commandResult);
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                printFailure(out, lineNumber, commandText, e.getMessage());
+            }
+        }
+        out.flush();
+        return failureCount;
+    }
+
+    /**
+     * Executes all the commands read from {@code in} as one batch, which saves the address book once after the last
+     * command, and prints the result of each command executed to {@code out}.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if {@code in} could not be read.
+     * @throws CommandException if the address book could not be saved.
+     */
+    public int runBatch(BufferedReader in, PrintWriter out, BatchExecutor.ErrorPolicy errorPolicy)
+            throws IOException, CommandException {
+        List<String> lines = new ArrayList<>();
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+            lines.add(line);
+        }
+
+        BatchResult batchResult = logic.executeBatch(lines, errorPolicy);
+        for (BatchResult.LineResult lineResult : batchResult.getLineResults()) {
+            if (lineResult.isSuccess()) {
+                printSuccess(out, lineResult.getLineNumber(), lineResult.getCommandText(),
+                        lineResult.getCommandResult().get());
+            } else {
+                printFailure(out, lineResult.getLineNumber(), lineResult.getCommandText(), lineResult.getMessage());
+            }
+        }
+        out.flush();
+        return batchResult.getFailureCount();
+    }
+
+    private void printSuccess(PrintWriter out, int lineNumber, String commandText, CommandResult commandResult)
+            throws IOException {
+        if (outputFormat == OutputFormat.TEXT) {
+            out.println(commandResult.getFeedbackToUser());
+            if (!commandResult.getMedicalHistory().isEmpty()) {
+                out.println(commandResult.getMedicalHistory());
+            }
+            return;
+        }
+        String medicalHistory = commandResult.getMedicalHistory();
+        out.println(JsonUtil.toCompactJsonString(new JsonResult(lineNumber, commandText, true,
+                commandResult.getFeedbackToUser(), medicalHistory.isEmpty() ? null : medicalHistory)));
+    }
+
+    private void printFailure(PrintWriter out, int lineNumber, String commandText, String message)
+            throws IOException {
+        if (outputFormat == OutputFormat.TEXT) {
+            out.println(String.format(MESSAGE_ERROR_FORMAT, message));
+            return;
+        }
+        out.println(JsonUtil.toCompactJsonString(new JsonResult(lineNumber, commandText, false, message, null)));
+    }
+
+    /**
+     * Starts the application without a GUI with the command-line arguments {@code args}, runs the commands of the
+     * script, or of the standard input, and saves the address book and preferences.
+     *
+     * @return the exit status of the application.
+     */
+    public static int launch(List<String> args) {
+        Map<String, String> namedParameters = AppParameters.getNamedParameters(args);
+        OutputFormat outputFormat;
+        String outputParameter = namedParameters.getOrDefault(OUTPUT_PARAMETER, OutputFormat.TEXT.name());
+        try {
+            outputFormat = OutputFormat.valueOf(outputParameter.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println(String.format(MESSAGE_INVALID_OUTPUT_FORMAT, outputParameter));
+            return EXIT_APP_FAILURE;
+        }
+        BatchExecutor.ErrorPolicy batchErrorPolicy = null;
+        String batchParameter = namedParameters.get(BATCH_PARAMETER);
+        if (batchParameter != null) {
+            try {
+                batchErrorPolicy = BatchExecutor.ErrorPolicy.valueOf(batchParameter.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.err.println(String.format(MESSAGE_INVALID_BATCH, batchParameter));
+                return EXIT_APP_FAILURE;
+            }
+        }
+        String scriptParameter = namedParameters.get(SCRIPT_PARAMETER);
+        if (scriptParameter != null && !FileUtil.isValidPath(scriptParameter)) {
+            System.err.println(String.format(MESSAGE_INVALID_SCRIPT_PATH, scriptParameter));
+            return EXIT_APP_FAILURE;
+        }
+
+        Config config = AppInitializer.initConfig(AppParameters.parse(args).getConfigPath());
+        LogsCenter.init(config);
+        logger.info("=========================[ Initializing AddressBook without GUI ]=========================");
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        // Saves are written before the next command is read, so a script that ends early loses nothing
+        Storage storage = AppInitializer.initStorage(userPrefs, userPrefsStorage);
+        Model model;
+        try {
+            // Scripts usually fill in an address book from nothing, so the sample persons would only get in the way
+            model = new ModelManager(AppInitializer.readAddressBook(storage, AddressBook::new), userPrefs);
+        } catch (DataLoadingException e) {
+            // Unlike the GUI, nobody is there to notice an empty address book before it is saved over the data file
+            logger.severe("Failed to load data " + StringUtil.getDetails(e));
+            System.err.println(String.format(MESSAGE_INVALID_DATA_FILE, storage.getAddressBookFilePath()));
+            return EXIT_APP_FAILURE;
+        }
+        HeadlessApp app = new HeadlessApp(new LogicManager(model, storage), outputFormat);
+
+        int exitStatus;
+        PrintWriter out = new PrintWriter(System.out, true);
+        try (BufferedReader in = scriptParameter == null
+                ? new BufferedReader(new InputStreamReader(System.in))
+                : Files.newBufferedReader(Paths.get(scriptParameter))) {
+            int failureCount = batchErrorPolicy == null
+                    ? app.run(in, out)
+                    : app.runBatch(in, out, batchErrorPolicy);
+            exitStatus = failureCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILURE;
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_ERROR_FORMAT, StringUtil.getDetails(e)));
+            exitStatus = EXIT_APP_FAILURE;
+        } catch (CommandException e) {
+            System.err.println(String.format(MESSAGE_ERROR_FORMAT, e.getMessage()));
+            exitStatus = EXIT_APP_FAILURE;
+        }
+
+        logger.info("=========================[ Stopping AddressBook without GUI ]=========================");
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            exitStatus = EXIT_APP_FAILURE;
+        }
+        return exitStatus;
+    }
+
+    /**
+     * The result of a command as printed in the JSON output format.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private static class JsonResult {
+        private final int line;
+        private final String command;
+        private final boolean success;
+        private final String feedback;
+        private final String medicalHistory;
+
+        JsonResult(int line, String command, boolean success, String feedback, String medicalHistory) {
+            this.line = line;
+            this.command = command;
+            this.success = success;
+            this.feedback = feedback;
+            this.medicalHistory = medicalHistory;
+        }
+    }
+}
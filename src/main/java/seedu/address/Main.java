@@ -1,5 +1,7 @@
 package seedu.address;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,11 +22,18 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given the {@code --headless} argument, the application runs without a GUI instead (see {@link HeadlessApp}).
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        List<String> arguments = Arrays.asList(args);
+        if (arguments.contains(HeadlessApp.HEADLESS_FLAG)) {
+            // Runs the commands without loading JavaFX at all, so no display is needed
+            System.exit(HeadlessApp.launch(arguments));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -0,0 +1,153 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Appends checksums to text and checks files against them.
+ * The checksum is kept on a line of its own at the end of the text, so the text before it is left as it is.
+ * Files are checked a buffer at a time, so checking a file does not read all of it into memory, and text can be
+ * written through a {@link #newChecksummedStream} so that its checksum is kept as it is written.
+ */
+public class ChecksumUtil {
+
+    public static final String CHECKSUM_LINE_PREFIX = "#crc32c:";
+
+    private static final int CHECKSUM_LENGTH = 8;
+    // Long enough to hold the checksum line with a trailing line separator
+    private static final int TAIL_LENGTH = CHECKSUM_LINE_PREFIX.length() + CHECKSUM_LENGTH + 3;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Returns {@code content} followed by a line holding its checksum.
+     */
+    public static String appendChecksum(String content) {
+        requireNonNull(content);
+        String separator = content.endsWith("\n") ? "" : "\n";
+        CRC32C checksum = new CRC32C();
+        checksum.update((content + separator).getBytes(StandardCharsets.UTF_8));
+        return content + separator + CHECKSUM_LINE_PREFIX + format(checksum.getValue()) + "\n";
+    }
+
+    /**
+     * Returns a stream that writes to {@code out}, keeping the checksum of the bytes written so far.
+     * The checksum line is written with {@link #writeChecksumLine(CheckedOutputStream)}.
+     */
+    public static CheckedOutputStream newChecksummedStream(OutputStream out) {
+        requireNonNull(out);
+        return new CheckedOutputStream(out, new CRC32C());
+    }
+
+    /**
+     * Writes a line holding the checksum of the bytes written to {@code out} so far, and flushes {@code out}.
+     * The text written so far should end with a line separator, for the checksum line to be a line of its own.
+     */
+    public static void writeChecksumLine(CheckedOutputStream out) throws IOException {
+        requireNonNull(out);
+        String checksumLine = CHECKSUM_LINE_PREFIX + format(out.getChecksum().getValue()) + "\n";
+        out.write(checksumLine.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * Returns true if {@code file} ends with a checksum line.
+     */
+    public static boolean hasChecksum(Path file) throws IOException {
+        return readChecksumLine(file) != null;
+    }
+
+    /**
+     * Returns true if {@code file} ends with a checksum line that matches the text before it.
+     */
+    public static boolean isChecksumValid(Path file) throws IOException {
+        ChecksumLine checksumLine = readChecksumLine(file);
+        if (checksumLine == null) {
+            return false;
+        }
+
+        return checksumLine.checksum.equals(computeChecksum(file, checksumLine.start));
+    }
+
+    /**
+     * Returns the checksum held by the checksum line at the end of {@code file}, or null if there is none.
+     * Only the end of the file is read, so the checksum is not checked against the text before it.
+     */
+    public static String readChecksum(Path file) throws IOException {
+        ChecksumLine checksumLine = readChecksumLine(file);
+        return checksumLine == null ? null : checksumLine.checksum;
+    }
+
+    /**
+     * Returns the checksum of the first {@code length} bytes of {@code file}.
+     */
+    private static String computeChecksum(Path file, long length) throws IOException {
+        CRC32C checksum = new CRC32C();
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long remaining = length;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    throw new EOFException("File " + file + " changed while its checksum was being computed");
+                }
+                checksum.update(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+        return format(checksum.getValue());
+    }
+
+    /**
+     * Returns the checksum line at the end of {@code file}, or null if there is none.
+     */
+    private static ChecksumLine readChecksumLine(Path file) throws IOException {
+        requireNonNull(file);
+        byte[] tail;
+        long tailStart;
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            tailStart = Math.max(0, channel.size() - TAIL_LENGTH);
+            ByteBuffer buffer = ByteBuffer.allocate((int) (channel.size() - tailStart));
+            channel.position(tailStart);
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read >= 0 && buffer.hasRemaining());
+            tail = buffer.array();
+        }
+
+        String tailText = new String(tail, StandardCharsets.ISO_8859_1).stripTrailing();
+        int lineStart = tailText.lastIndexOf('\n') + 1;
+        if (lineStart == 0 && tailStart > 0 || !tailText.startsWith(CHECKSUM_LINE_PREFIX, lineStart)) {
+            return null;
+        }
+        return new ChecksumLine(tailStart + lineStart, tailText.substring(lineStart + CHECKSUM_LINE_PREFIX.length()));
+    }
+
+    private static String format(long checksum) {
+        return String.format("%0" + CHECKSUM_LENGTH + "x", checksum);
+    }
+
+    /**
+     * The checksum at the end of a file, and where its line starts.
+     */
+    private static class ChecksumLine {
+        private final long start;
+        private final String checksum;
+
+        ChecksumLine(long start, String checksum) {
+            this.start = start;
+            this.checksum = checksum;
+        }
+    }
+}
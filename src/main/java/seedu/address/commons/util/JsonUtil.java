@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -101,6 +105,24 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a parser that reads JSON data from {@code in} a token at a time, instead of all at once.
+     * Values read through the parser, such as with {@link JsonParser#readValueAs(Class)}, are converted the same way
+     * as the other methods of this class convert them.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Returns a generator that writes indented JSON data to {@code out}, the same as {@link #toJsonString(Object)}.
+     */
+    public static JsonGenerator createGenerator(Writer out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory().createGenerator(out).useDefaultPrettyPrinter();
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -111,6 +133,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
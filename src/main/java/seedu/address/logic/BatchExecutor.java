@@ -0,0 +1,94 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Executes a script of commands against a model, a line at a time. Nothing is saved after each line, so whoever runs
+ * the batch saves the address book once, after the last line.
+ */
+public class BatchExecutor {
+
+    /** Lines starting with this are comments, which are skipped like blank lines. */
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_NESTED_SCRIPT = "A script cannot run another script";
+
+    /**
+     * What to do with the rest of the script when one of its commands fails.
+     */
+    public enum ErrorPolicy {
+        /** Skips the rest of the script, keeping the changes of the commands before the one that failed. */
+        STOP,
+        /** Executes the rest of the script. */
+        CONTINUE
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(BatchExecutor.class);
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final ErrorPolicy errorPolicy;
+
+    /**
+     * Creates a {@code BatchExecutor} that handles failing commands according to {@code errorPolicy}.
+     */
+    public BatchExecutor(ErrorPolicy errorPolicy) {
+        requireNonNull(errorPolicy);
+        this.errorPolicy = errorPolicy;
+    }
+
+    /**
+     * Executes each command in {@code lines} against {@code model}, until the lines end, a command asks the app to
+     * exit, or a command fails and the error policy is {@link ErrorPolicy#STOP}.
+     */
+    public BatchResult execute(List<String> lines, Model model) {
+        requireNonNull(lines);
+        requireNonNull(model);
+
+        List<BatchResult.LineResult> lineResults = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            int lineNumber = i + 1;
+            String commandText = lines.get(i).strip();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            logger.fine("Batch line " + lineNumber + ": " + commandText);
+            try {
+                Command command = addressBookParser.parseCommand(commandText);
+                if (command instanceof RunCommand) {
+                    throw new CommandException(MESSAGE_NESTED_SCRIPT);
+                }
+                CommandResult commandResult = command.execute(model);
+                lineResults.add(new BatchResult.LineResult(lineNumber, commandText, commandResult));
+                if (commandResult.isExit()) {
+                    return new BatchResult(lineResults, hasCommandAfter(lines, lineNumber));
+                }
+            } catch (CommandException | ParseException e) {
+                lineResults.add(new BatchResult.LineResult(lineNumber, commandText, e.getMessage()));
+                if (errorPolicy == ErrorPolicy.STOP) {
+                    return new BatchResult(lineResults, hasCommandAfter(lines, lineNumber));
+                }
+            }
+        }
+        return new BatchResult(lineResults, false);
+    }
+
+    private static boolean hasCommandAfter(List<String> lines, int lineNumber) {
+        return lines.subList(lineNumber, lines.size()).stream()
+                .map(String::strip)
+                .anyMatch(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX));
+    }
+}
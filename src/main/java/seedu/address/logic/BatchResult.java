@@ -0,0 +1,163 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Represents the results of the commands executed by a {@link BatchExecutor}.
+ */
+public class BatchResult {
+
+    private final List<LineResult> lineResults;
+
+    /** Some commands of the script were not executed, because a command failed or asked the app to exit. */
+    private final boolean stopped;
+
+    /**
+     * Constructs a {@code BatchResult} with the results of the executed lines, in order.
+     */
+    public BatchResult(List<LineResult> lineResults, boolean stopped) {
+        requireNonNull(lineResults);
+        this.lineResults = List.copyOf(lineResults);
+        this.stopped = stopped;
+    }
+
+    public List<LineResult> getLineResults() {
+        return lineResults;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    public int getFailureCount() {
+        return (int) lineResults.stream().filter(lineResult -> !lineResult.isSuccess()).count();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchResult)) {
+            return false;
+        }
+
+        BatchResult otherBatchResult = (BatchResult) other;
+        return lineResults.equals(otherBatchResult.lineResults)
+                && stopped == otherBatchResult.stopped;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineResults, stopped);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lineResults", lineResults)
+                .add("stopped", stopped)
+                .toString();
+    }
+
+    /**
+     * Represents the result of the command on a line of the script: the {@code CommandResult} of a command that
+     * succeeded, or the error message of a command that failed.
+     */
+    public static class LineResult {
+        private final int lineNumber;
+        private final String commandText;
+        private final CommandResult commandResult;
+        private final String errorMessage;
+
+        /**
+         * Constructs the result of a command that succeeded.
+         */
+        public LineResult(int lineNumber, String commandText, CommandResult commandResult) {
+            this(lineNumber, commandText, requireNonNull(commandResult), null);
+        }
+
+        /**
+         * Constructs the result of a command that failed with {@code errorMessage}.
+         */
+        public LineResult(int lineNumber, String commandText, String errorMessage) {
+            this(lineNumber, commandText, null, requireNonNull(errorMessage));
+        }
+
+        private LineResult(int lineNumber, String commandText, CommandResult commandResult, String errorMessage) {
+            requireNonNull(commandText);
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.commandResult = commandResult;
+            this.errorMessage = errorMessage;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public boolean isSuccess() {
+            return commandResult != null;
+        }
+
+        /**
+         * Returns the result of the command, or an empty {@code Optional} if it failed.
+         */
+        public Optional<CommandResult> getCommandResult() {
+            return Optional.ofNullable(commandResult);
+        }
+
+        /**
+         * Returns the feedback of the command if it succeeded, or its error message if it failed.
+         */
+        public String getMessage() {
+            return isSuccess() ? commandResult.getFeedbackToUser() : errorMessage;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof LineResult)) {
+                return false;
+            }
+
+            LineResult otherLineResult = (LineResult) other;
+            return lineNumber == otherLineResult.lineNumber
+                    && commandText.equals(otherLineResult.commandText)
+                    && Objects.equals(commandResult, otherLineResult.commandResult)
+                    && Objects.equals(errorMessage, otherLineResult.errorMessage);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, commandText, commandResult, errorMessage);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("lineNumber", lineNumber)
+                    .add("commandText", commandText)
+                    .add("commandResult", commandResult)
+                    .add("errorMessage", errorMessage)
+                    .toString();
+        }
+    }
+}
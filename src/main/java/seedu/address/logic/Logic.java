@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in {@code commandLines} as a batch, and saves the address book once after all of them.
+     * Commands that fail are reported in the result instead of being thrown.
+     *
+     * @param commandLines The lines of a script, a command per line.
+     * @param errorPolicy What to do with the rest of the lines when a command fails.
+     * @return the results of the commands that were executed.
+     * @throws CommandException If the address book could not be saved.
+     */
+    BatchResult executeBatch(List<String> commandLines, BatchExecutor.ErrorPolicy errorPolicy)
+            throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
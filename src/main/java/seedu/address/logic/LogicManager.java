@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -33,13 +34,18 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // The modification count of the address book when it was last saved
+    private long savedModificationCount;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book in {@code model} is taken to be saved already.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
     }
 
     @Override
@@ -50,15 +56,37 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        saveIfModified();
+        return commandResult;
+    }
+
+    @Override
+    public BatchResult executeBatch(List<String> commandLines, BatchExecutor.ErrorPolicy errorPolicy)
+            throws CommandException {
+        logger.info("----------------[BATCH OF " + commandLines.size() + " LINES]");
+
+        BatchResult batchResult = new BatchExecutor(errorPolicy).execute(commandLines, model);
+        saveIfModified();
+        return batchResult;
+    }
+
+    /**
+     * Saves the address book if it was modified since it was last saved.
+     */
+    private void saveIfModified() throws CommandException {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            return;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
+            savedModificationCount = modificationCount;
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -9,6 +9,7 @@ import java.util.Set;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.NurseAssignmentIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
@@ -33,8 +34,6 @@ public class AssignCommand extends Command {
 
     public static final String ROLE_NURSE = "Nurse";
 
-    private static final int MAX_NURSES_PER_PATIENT = 2;
-
     private final Index patientIndex;
 
     private final Index nurseIndex;
@@ -63,12 +62,13 @@ public class AssignCommand extends Command {
 
         long nurseCount = patient.getTags().stream().filter(tag -> tag.tagName.startsWith("Nurse")).count();
 
-        if (nurseCount >= MAX_NURSES_PER_PATIENT) {
-            throw new CommandException("This patient already has " + MAX_NURSES_PER_PATIENT + " assigned nurses!");
+        if (nurseCount >= NurseAssignmentIndex.MAX_NURSES_PER_PATIENT) {
+            throw new CommandException("This patient already has " + NurseAssignmentIndex.MAX_NURSES_PER_PATIENT
+                    + " assigned nurses!");
         }
 
         Set<Tag> updatedTags = new HashSet<>(patient.getTags());
-        updatedTags.add(new Tag("Nurse " + nurse.getName().fullName));
+        updatedTags.add(new Tag(NurseAssignmentIndex.NURSE_TAG_PREFIX + nurse.getName().fullName));
 
         Person updatedPatient = new Person(
                 patient.getName(), patient.getDateOfBirth(), patient.getPhone(), patient.getEmail(),
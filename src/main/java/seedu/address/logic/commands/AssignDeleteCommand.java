@@ -10,6 +10,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.NurseAssignmentIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
@@ -62,7 +63,7 @@ public class AssignDeleteCommand extends Command {
         }
 
         Set<Tag> updatedTags = new HashSet<>(patient.getTags());
-        String nurseTag = "Nurse " + nurseName.toUpperCase();
+        String nurseTag = NurseAssignmentIndex.NURSE_TAG_PREFIX + nurseName.toUpperCase();
 
         if (!updatedTags.remove(new Tag(nurseTag))) {
             throw new CommandException(
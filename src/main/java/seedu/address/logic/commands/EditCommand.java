@@ -38,6 +38,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.MedicalHistory;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NextOfKin;
+import seedu.address.model.person.NurseAssignmentIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonHasAppointmentPredicate;
 import seedu.address.model.person.PersonHasCheckupPredicate;
@@ -131,7 +132,7 @@ public class EditCommand extends Command {
                 && model.hasPerson(editedPerson);
 
         if (isAppointmentBeingEdited) {
-            ensurePatientHasNoAssignedNurse(personToEdit, model);
+            ensurePatientHasNoAssignedNurse(personToEdit);
             ensureNurseHasNoPatient(personToEdit, editedPerson, model);
         }
 
@@ -162,14 +163,8 @@ public class EditCommand extends Command {
         boolean isPatient = appointmentAfterEdit.toString().equalsIgnoreCase("patient");
 
         if (isNurse && isPatient) {
-            String name = personToEdit.getName().toString();
-            logger.info("Name: " + name);
-            boolean patientHasEditedNurse = personModel.getAddressBook().getPersonList()
-                                                       .stream()
-                                                       .filter(person -> person.getAppointment().isPatient())
-                                                       .anyMatch(person -> person.getTags().stream()
-                                                                .anyMatch(tag -> tag.tagName.equals("Nurse "
-                                                                                                         + name)));
+            logger.info("Name: " + personToEdit.getName());
+            boolean patientHasEditedNurse = personModel.hasAssignedPatients(personToEdit);
             logger.info("Patient has edited nurse: " + patientHasEditedNurse);
             if (patientHasEditedNurse) {
                 throw new CommandException(MESSAGE_UNABLE_TO_CHANGE_APPOINTMENT_TO_PATIENT);
@@ -186,15 +181,10 @@ public class EditCommand extends Command {
         logger.info("Appointment before edit: " + appointmentBeforeEdit);
         boolean isNurse = appointmentBeforeEdit.toString().equalsIgnoreCase("nurse");
         logger.info("Is it a nurse: " + isNurse);
-        String name = personToEdit.getName().toString();
-        logger.info("Name: " + name);
-        boolean nurseHasPatientAssigned = model.getAddressBook().getPersonList()
-                                               .stream()
-                                               .filter(person -> person.getAppointment().isPatient())
-                                               .anyMatch(person -> person.getTags().stream()
-                                                        .anyMatch(tag -> tag.tagName.equals("Nurse " + name)));
+        logger.info("Name: " + personToEdit.getName());
+        boolean nurseHasPatientAssigned = isNurse && model.hasAssignedPatients(personToEdit);
         logger.info("Nurse has patient assigned: " + nurseHasPatientAssigned);
-        if (isNurse && nurseHasPatientAssigned) {
+        if (nurseHasPatientAssigned) {
             throw new CommandException(MESSAGE_UNABLE_TO_CHANGE_NAME);
         }
     }
@@ -211,15 +201,8 @@ public class EditCommand extends Command {
     }
 
     // Ensure that a patient can change to a nurse if they have no assigned nurse.
-    private void ensurePatientHasNoAssignedNurse(Person personToEdit, Model personModel) throws CommandException {
-        String name = personToEdit.getName().toString();
-        boolean hasNurseAssigned = personModel.getAddressBook().getPersonList()
-                                              .stream()
-                                              .filter(person -> person.getName()
-                                                                             .toString()
-                                                                             .equalsIgnoreCase(name))
-                                              .anyMatch(person -> person.getTags().stream()
-                                              .anyMatch(tag -> tag.tagName.startsWith("Nurse ")));
+    private void ensurePatientHasNoAssignedNurse(Person personToEdit) throws CommandException {
+        boolean hasNurseAssigned = !NurseAssignmentIndex.getAssignedNurseNames(personToEdit).isEmpty();
         boolean changeToPatient = editPersonDescriptor.getAppointment().get().isPatient();
         boolean isPatient = personToEdit.getAppointment().toString().equalsIgnoreCase("patient");
 
@@ -234,15 +217,17 @@ public class EditCommand extends Command {
      * @param model Model to be updated.
      */
     private void updateModelList(Model model) {
+        if (model.isFilteredPersonListFocused()) {
+            // If list is focused on the edited person by view command, it is still shown.
+            return;
+        }
+
         if (ListCommand.getAppointmentFilter() != null) {
             // If list is filtered by appointment.
             model.updateFilteredPersonList(new PersonHasAppointmentPredicate(ListCommand.getAppointmentFilter()));
         } else if (ListCommand.isCheckupFilterActive()) {
             // If list is filtered by checkup.
             model.updateFilteredPersonListByEarliestCheckup(new PersonHasCheckupPredicate());
-        } else if (ViewCommand.getLastShownListPredicate() != null) {
-            // If list is filtered by view command.
-            model.updateFilteredPersonList(ViewCommand.getLastShownListPredicate());
         } else if (FindCommand.getLastFindPredicate() != null) {
             // If list is filtered by find command.
             model.updateFilteredPersonList(FindCommand.getLastFindPredicate());
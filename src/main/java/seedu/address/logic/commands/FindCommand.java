@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -10,9 +11,11 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords, and who satisfy
+ * every other condition given.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -20,26 +23,32 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "the specified keywords (case-insensitive) and who match every other given condition, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: [KEYWORD]... [ap/APPOINTMENT] [b/BLOOD_TYPE] [t/TAG]... [mh/MEDICAL_HISTORY]... "
+            + "[dob/DATE [to DATE]] [c/DATE [to DATE]]\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " ap/patient b/O+ c/01/12/2025 to 31/12/2025";
 
     private static Predicate<Person> lastFindPredicate;
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final PersonQuery query;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(new PersonQuery(List.of(predicate)));
+    }
+
+    public FindCommand(PersonQuery query) {
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        lastFindPredicate = predicate;
-        model.updateFilteredPersonList(predicate);
+        lastFindPredicate = query;
+        model.updateFilteredPersonListByQuery(query);
         ListCommand.clearCheckupFilter();
         ListCommand.clearAppointmentFilter();
-        ViewCommand.clearLastShownListPredicate();
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -56,13 +65,13 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return query.equals(otherFindCommand.query);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("predicate", predicate)
+                .add("query", query)
                 .toString();
     }
 
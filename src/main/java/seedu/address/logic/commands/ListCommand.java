@@ -54,7 +54,6 @@ public class ListCommand extends Command {
             checkupFilterActive = true;
             clearAppointmentFilter();
             FindCommand.clearLastFindPredicate();
-            ViewCommand.clearLastShownListPredicate();
             return new CommandResult(MESSAGE_SUCCESS_CHECKUP);
         }
         checkupFilterActive = false;
@@ -64,14 +63,12 @@ public class ListCommand extends Command {
             currentAppointmentFilter = null;
             clearCheckupFilter();
             FindCommand.clearLastFindPredicate();
-            ViewCommand.clearLastShownListPredicate();
             return new CommandResult(MESSAGE_SUCCESS_ALL);
         }
 
         model.updateFilteredPersonList(new PersonHasAppointmentPredicate(appointmentFilter));
         currentAppointmentFilter = appointmentFilter;
         FindCommand.clearLastFindPredicate();
-        ViewCommand.clearLastShownListPredicate();
         clearCheckupFilter();
         return new CommandResult(String.format(MESSAGE_SUCCESS_FILTERED, appointmentFilter));
     }
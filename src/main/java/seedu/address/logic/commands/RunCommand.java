@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.BatchExecutor;
+import seedu.address.logic.BatchResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, a command per line, and saves the address book once after all of them.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String CONTINUE_KEYWORD = "continue";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line. "
+            + "Blank lines and lines starting with # are skipped. The script stops at the first command that fails, "
+            + "keeping the changes made before it, unless '" + CONTINUE_KEYWORD + "' is given.\n"
+            + "Parameters: [" + CONTINUE_KEYWORD + "] FILE\n"
+            + "Example: " + COMMAND_WORD + " " + CONTINUE_KEYWORD + " scripts/new-ward.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s: %3$d succeeded, %4$d failed.";
+    public static final String MESSAGE_STOPPED = " Stopped after line %1$d.";
+    public static final String MESSAGE_LINE_SUCCESS = "Line %1$d: %2$s";
+    public static final String MESSAGE_LINE_FAILURE = "Line %1$d: Error: %2$s";
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read the script %1$s";
+
+    private final Path scriptPath;
+    private final BatchExecutor.ErrorPolicy errorPolicy;
+
+    /**
+     * Creates a RunCommand to run the script at {@code scriptPath}, handling failing commands according to
+     * {@code errorPolicy}.
+     */
+    public RunCommand(Path scriptPath, BatchExecutor.ErrorPolicy errorPolicy) {
+        requireNonNull(scriptPath);
+        requireNonNull(errorPolicy);
+        this.scriptPath = scriptPath;
+        this.errorPolicy = errorPolicy;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_SCRIPT, scriptPath), e);
+        }
+
+        // Failed commands are reported rather than thrown, so that the changes made by the others are still saved
+        BatchResult batchResult = new BatchExecutor(errorPolicy).execute(lines, model);
+        List<BatchResult.LineResult> lineResults = batchResult.getLineResults();
+        int failureCount = batchResult.getFailureCount();
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, lineResults.size(), scriptPath,
+                lineResults.size() - failureCount, failureCount));
+        if (batchResult.isStopped()) {
+            feedback.append(String.format(MESSAGE_STOPPED, lineResults.get(lineResults.size() - 1).getLineNumber()));
+        }
+        for (BatchResult.LineResult lineResult : lineResults) {
+            feedback.append('\n').append(String.format(lineResult.isSuccess() ? MESSAGE_LINE_SUCCESS
+                    : MESSAGE_LINE_FAILURE, lineResult.getLineNumber(), lineResult.getMessage()));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath)
+                && errorPolicy == otherRunCommand.errorPolicy;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scriptPath, errorPolicy);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("errorPolicy", errorPolicy)
+                .toString();
+    }
+}
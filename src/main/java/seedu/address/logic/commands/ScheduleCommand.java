@@ -18,6 +18,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.checkup.Checkup;
+import seedu.address.model.checkup.ScheduledCheckup;
+import seedu.address.model.person.NurseAssignmentIndex;
 import seedu.address.model.person.Person;
 
 /**
@@ -44,6 +46,12 @@ public class ScheduleCommand extends Command {
              + "REMEMBER to assign a nurse promptly after this!";
     public static final String MESSAGE_CHECKUP_CLASH = "There's a checkup scheduled on %s! Please choose another"
         + " time / date";
+    public static final String MESSAGE_NURSE_CLASH = "Nurse %s already has a checkup within 30 minutes of %s!"
+        + " Please choose another time / date";
+
+    private static final Duration CLASH_WINDOW = Duration.ofMinutes(30);
+    private static final DateTimeFormatter CLASH_DATETIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
     private final Index patientIndex;
     private final LocalDate checkupDate;
     private final LocalTime checkupTime;
@@ -76,15 +84,21 @@ public class ScheduleCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         Person patient = getPatientFromModel(model);
 
-        if (hasConflictingCheckup(patient) && isAdding) {
+        if (hasConflictingCheckup(model, patient) && isAdding) {
             throw new CommandException(MESSAGE_CHECKUP_DUPLICATE);
         }
 
-        Checkup checkupClash = isWithinThirtyMinutes(patient, this.checkupDate, this.checkupTime);
+        Checkup checkupClash = isWithinThirtyMinutes(model, patient, this.checkupDate, this.checkupTime);
         if (checkupClash != null && isAdding) {
             throw new CommandException(String.format(MESSAGE_CHECKUP_CLASH, checkupClash.toString()));
         }
 
+        String bookedNurseName = findBookedNurse(model, patient);
+        if (bookedNurseName != null && isAdding) {
+            throw new CommandException(String.format(MESSAGE_NURSE_CLASH, bookedNurseName,
+                    LocalDateTime.of(checkupDate, checkupTime).format(CLASH_DATETIME_FORMATTER)));
+        }
+
         try {
             Checkup newCheckup = createCheckup();
             updatePatientWithCheckup(model, patient, newCheckup);
@@ -130,42 +144,55 @@ public class ScheduleCommand extends Command {
     /**
      * Checks if the patient already has a conflicting checkup scheduled at the same date and time.
      *
+     * @param model The model whose checkups are checked.
      * @param patient The patient to check against.
      * @return True if a conflicting checkup exists; False otherwise.
      */
-    private boolean hasConflictingCheckup(Person patient) {
+    private boolean hasConflictingCheckup(Model model, Person patient) {
         LocalDateTime newDateTime = LocalDateTime.of(checkupDate, checkupTime);
-        return patient.getCheckups().stream()
-                .anyMatch(existingCheckup -> existingCheckup.getDateTime().equals(newDateTime));
+        return model.getCheckupsBetween(newDateTime, newDateTime.plusMinutes(1)).stream()
+                .anyMatch(scheduledCheckup -> scheduledCheckup.getPatient() == patient);
     }
 
     /**
-     * Checks if the given time falls within +-30 minutes of any checkup's LocalDateTime.
-     * This method compares the provided `date` and `time` (which are combined into a `LocalDateTime`)
-     * against the `LocalDateTime` of each checkup in the patient's set of checkups. It returns `true`
-     * if any checkup's `LocalDateTime` is within ±30 minutes of the provided `timeToCheck`, and `false` otherwise.
+     * Returns the patient's checkup that is less than 30 minutes away from the given date and time, if any.
+     * Only the checkups booked in the 30-minute window on either side of the given time are looked up, using the
+     * model's checkup index, so the check does not depend on how many checkups are booked in total.
      *
+     * @param model The model whose checkups are checked.
      * @param patient The patient whose checkups are being checked.
      * @param date The date of the time to check.
      * @param time The time to check against the patient's checkups.
-     * @return true if the given time falls within ±30 minutes of any checkup's LocalDateTime,
-     *         false otherwise.
+     * @return the clashing checkup if the given time falls within +/-30 minutes of one of the patient's checkups,
+     *         null otherwise.
      */
-    public Checkup isWithinThirtyMinutes(Person patient, LocalDate date, LocalTime time) {
-        Set<Checkup> checkups = patient.getCheckups();
-
+    public Checkup isWithinThirtyMinutes(Model model, Person patient, LocalDate date, LocalTime time) {
         LocalDateTime timeToCheck = date.atTime(time);
+        List<ScheduledCheckup> nearbyCheckups = model.getCheckupsBetween(
+                timeToCheck.minus(CLASH_WINDOW).plusSeconds(1), timeToCheck.plus(CLASH_WINDOW));
+
+        return nearbyCheckups.stream()
+                .filter(scheduledCheckup -> scheduledCheckup.getPatient() == patient)
+                .map(ScheduledCheckup::getCheckup)
+                .findFirst()
+                .orElse(null);
+    }
 
-        for (Checkup checkup : checkups) {
-            LocalDateTime checkupTime = checkup.getDateTime();
-            Duration duration = Duration.between(checkupTime, timeToCheck);
-            long seconds = duration.getSeconds();
-
-            if (Math.abs(seconds) < 1800) {
-                return checkup;
-            }
-        }
-        return null;
+    /**
+     * Returns the name of a nurse assigned to the patient who is already booked within 30 minutes of the new
+     * checkup, or null if all of the patient's nurses are free.
+     *
+     * @param model The model whose nurse schedules are checked.
+     * @param patient The patient whose assigned nurses are checked.
+     * @return The name of a booked nurse, in upper case, or null if there is none.
+     */
+    private String findBookedNurse(Model model, Person patient) {
+        LocalDateTime newDateTime = LocalDateTime.of(checkupDate, checkupTime);
+        return NurseAssignmentIndex.getAssignedNurseNames(patient).stream()
+                .filter(nurseName -> model.isNurseBooked(nurseName, newDateTime))
+                .sorted()
+                .findFirst()
+                .orElse(null);
     }
 
     /**
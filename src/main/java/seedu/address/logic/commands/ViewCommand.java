@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
@@ -12,7 +11,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.MedicalHistory;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.PersonHasSameNamePredicate;
 
 /**
  * View nurse or patient details.
@@ -30,8 +28,6 @@ public class ViewCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Displaying details for: %s.";
     public static final String MESSAGE_MEDICAL_HISTORY = "Medical History for %s: %s";
 
-    private static Predicate<Person> lastShownListPredicate;
-
     private final Index index;
 
     /**
@@ -54,10 +50,7 @@ public class ViewCommand extends Command {
         }
 
         Person viewedPerson = lastShownList.get(index.getZeroBased());
-        int zeroBasedIndex = index.getZeroBased();
-
-//        lastShownListPredicate = person -> person.isSamePerson(viewedPerson);
-        model.updateFilteredPersonList(person -> model.getFilteredPersonList().indexOf(person) == index.getZeroBased());
+        model.focusFilteredPersonListOn(viewedPerson);
 
         String responseMessage = String.format(MESSAGE_SUCCESS, viewedPerson.getName());
         if (viewedPerson.getAppointment().toString().equals("Patient")) {
@@ -94,18 +87,4 @@ public class ViewCommand extends Command {
         }
         return true;
     }
-
-    /**
-     * Returns the predicate used to filter the last shown list.
-     *
-     * @return Predicate for the last shown list.
-     */
-    public static Predicate<Person> getLastShownListPredicate() {
-        return lastShownListPredicate;
-    }
-
-    /** Clears the last shown list predicate. */
-    public static void clearLastShownListPredicate() {
-        lastShownListPredicate = null;
-    }
 }
@@ -1,15 +1,33 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOODTYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHECKUPS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICAL_HISTORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindNurseCommand;
 import seedu.address.logic.commands.FindPatientCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.DateOfBirth;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.query.AttributeCondition;
+import seedu.address.model.query.CheckupDateCondition;
+import seedu.address.model.query.DateOfBirthCondition;
+import seedu.address.model.query.PersonAttribute;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryCondition;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -22,6 +40,13 @@ public class FindCommandParser implements Parser<FindCommand> {
     public static final String PATIENT_INDEX = "PATIENT_INDEX";
     public static final String NURSE_INDEX = "NURSE_INDEX";
 
+    public static final String DATE_RANGE_SEPARATOR = " to ";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "Date ranges should be given as DATE or DATE to DATE, "
+            + "with dates in the format dd/MM/yyyy and the first date not after the second";
+
+    private static final Prefix[] QUERY_PREFIXES = {PREFIX_APPOINTMENT, PREFIX_BLOODTYPE, PREFIX_TAG,
+        PREFIX_MEDICAL_HISTORY, PREFIX_DOB, PREFIX_CHECKUPS};
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -40,6 +65,11 @@ public class FindCommandParser implements Parser<FindCommand> {
             return findPatientScenario(trimmedArgs);
         }
 
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args.trim(), QUERY_PREFIXES);
+        if (Stream.of(QUERY_PREFIXES).anyMatch(prefix -> argMultimap.getValue(prefix).isPresent())) {
+            return findByQueryScenario(argMultimap);
+        }
+
         return findScenario(trimmedArgs);
     }
 
@@ -108,4 +138,80 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
+
+    /**
+     * Parses the input arguments when the command involves searching for persons by conditions on their details.
+     * The preamble holds the keywords to search names by, if any, and every other condition is given by a prefix.
+     * A person has to satisfy every condition given to be found.
+     *
+     * @param argMultimap The user input arguments, tokenized by the prefixes of the conditions.
+     * @return A FindCommand object containing the query made of the parsed conditions.
+     * @throws ParseException If any of the conditions is invalid.
+     */
+    public FindCommand findByQueryScenario(ArgumentMultimap argMultimap) throws ParseException {
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_APPOINTMENT, PREFIX_BLOODTYPE, PREFIX_DOB, PREFIX_CHECKUPS);
+        List<QueryCondition> conditions = new ArrayList<>();
+
+        String preamble = argMultimap.getPreamble().trim();
+        if (!preamble.isEmpty()) {
+            conditions.add(new NameContainsKeywordsPredicate(Arrays.asList(preamble.toLowerCase().split("\\s+"))));
+        }
+
+        Optional<String> appointment = argMultimap.getValue(PREFIX_APPOINTMENT);
+        if (appointment.isPresent()) {
+            conditions.add(new AttributeCondition(PersonAttribute.APPOINTMENT,
+                    ParserUtil.parseAppointment(appointment.get()).appointment));
+        }
+        Optional<String> bloodType = argMultimap.getValue(PREFIX_BLOODTYPE);
+        if (bloodType.isPresent()) {
+            conditions.add(new AttributeCondition(PersonAttribute.BLOOD_TYPE,
+                    ParserUtil.parseBloodType(bloodType.get()).bloodType));
+        }
+        for (String tag : argMultimap.getAllValues(PREFIX_TAG)) {
+            conditions.add(new AttributeCondition(PersonAttribute.TAG, ParserUtil.parseTag(tag).tagName));
+        }
+        for (String medicalHistory : argMultimap.getAllValues(PREFIX_MEDICAL_HISTORY)) {
+            conditions.add(new AttributeCondition(PersonAttribute.MEDICAL_HISTORY,
+                    ParserUtil.parseMedicalHistory(medicalHistory).medicalHistory));
+        }
+
+        Optional<String> dobRange = argMultimap.getValue(PREFIX_DOB);
+        if (dobRange.isPresent()) {
+            LocalDate[] range = parseDateRange(dobRange.get());
+            conditions.add(new DateOfBirthCondition(range[0], range[1]));
+        }
+        Optional<String> checkupRange = argMultimap.getValue(PREFIX_CHECKUPS);
+        if (checkupRange.isPresent()) {
+            LocalDate[] range = parseDateRange(checkupRange.get());
+            conditions.add(new CheckupDateCondition(range[0], range[1]));
+        }
+
+        return new FindCommand(new PersonQuery(conditions));
+    }
+
+    /**
+     * Parses a date range of the form {@code DATE} or {@code DATE to DATE} into its first and last dates.
+     * A single date is a range of one day.
+     */
+    private static LocalDate[] parseDateRange(String range) throws ParseException {
+        String[] dates = range.trim().split(DATE_RANGE_SEPARATOR, -1);
+        if (dates.length > 2) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        LocalDate from = parseDate(dates[0]);
+        LocalDate to = dates.length == 1 ? from : parseDate(dates[1]);
+        if (from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new LocalDate[] {from, to};
+    }
+
+    private static LocalDate parseDate(String date) throws ParseException {
+        String trimmedDate = date.trim();
+        if (!DateOfBirth.isValidDate(trimmedDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return LocalDate.parse(trimmedDate, DateOfBirth.FORMATTER);
+    }
 }
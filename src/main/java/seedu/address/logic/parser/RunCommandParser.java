@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.BatchExecutor;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The script file path %1$s is invalid.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        BatchExecutor.ErrorPolicy errorPolicy = BatchExecutor.ErrorPolicy.STOP;
+        String[] splitArgs = trimmedArgs.split("\\s+", 2);
+        if (splitArgs.length == 2 && splitArgs[0].equalsIgnoreCase(RunCommand.CONTINUE_KEYWORD)) {
+            errorPolicy = BatchExecutor.ErrorPolicy.CONTINUE;
+            trimmedArgs = splitArgs[1];
+        }
+
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        if (!FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, trimmedArgs));
+        }
+        return new RunCommand(Paths.get(trimmedArgs), errorPolicy);
+    }
+}
@@ -2,20 +2,38 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.checkup.CheckupIndex;
+import seedu.address.model.checkup.ScheduledCheckup;
+import seedu.address.model.person.NameTrigramIndex;
+import seedu.address.model.person.NurseAssignmentIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.query.PersonAttribute;
+import seedu.address.model.query.PersonAttributeIndex;
+import seedu.address.model.query.PersonIndexes;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
  */
-public class AddressBook implements ReadOnlyAddressBook {
+public class AddressBook implements ReadOnlyAddressBook, PersonIndexes {
 
     private final UniquePersonList persons;
+    private final NurseAssignmentIndex nurseAssignments;
+    private final CheckupIndex checkups;
+    private final NameTrigramIndex names;
+    private final PersonAttributeIndex attributes;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +44,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        nurseAssignments = new NurseAssignmentIndex();
+        checkups = new CheckupIndex();
+        names = new NameTrigramIndex();
+        attributes = new PersonAttributeIndex();
+        persons.asUnmodifiableObservableList().addListener(nurseAssignments);
+        persons.asUnmodifiableObservableList().addListener(checkups);
+        persons.asUnmodifiableObservableList().addListener(names);
+        persons.asUnmodifiableObservableList().addListener(attributes);
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> modificationCount++);
     }
 
     public AddressBook() {}
@@ -67,9 +94,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with the id {@code id}, if any.
+     */
+    public Optional<Person> getPersonById(long id) {
+        return persons.getById(id);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
+     * The person in the address book is given an id, so it may be a copy of {@code p}.
      */
     public void addPerson(Person p) {
         persons.add(p);
@@ -94,8 +129,93 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    //// assignment-level operations
+
+    /**
+     * Returns the patients assigned to {@code nurse}, in order of name.
+     */
+    public List<Person> getAssignedPatients(Person nurse) {
+        return nurseAssignments.getAssignedPatients(nurse);
+    }
+
+    /**
+     * Returns true if at least one patient in the address book is assigned to {@code nurse}.
+     */
+    public boolean hasAssignedPatients(Person nurse) {
+        return nurseAssignments.hasAssignedPatients(nurse);
+    }
+
+    //// search-level operations
+
+    /**
+     * Returns the persons whose names may contain any of {@code keywords}, ignoring case.
+     * The returned persons are a superset of the matches and are compared by identity.
+     */
+    @Override
+    public Set<Person> getNameSearchCandidates(Collection<String> keywords) {
+        return names.getCandidates(keywords);
+    }
+
+    @Override
+    public int estimateNameSearchCandidates(Collection<String> keywords) {
+        return names.estimateCandidates(keywords);
+    }
+
+    @Override
+    public Set<Person> getPersonsWith(PersonAttribute attribute, String value) {
+        return attributes.getPersonsWith(attribute, value);
+    }
+
+    @Override
+    public Set<Person> getPersonsBornBetween(LocalDate from, LocalDate to) {
+        return attributes.getPersonsBornBetween(from, to);
+    }
+
+    @Override
+    public int countPersonsBornBetween(LocalDate from, LocalDate to) {
+        return attributes.countPersonsBornBetween(from, to);
+    }
+
+    //// checkup-level operations
+
+    /**
+     * Returns the checkups booked from {@code from} (inclusive) to {@code to} (exclusive), in chronological order.
+     */
+    @Override
+    public List<ScheduledCheckup> getCheckupsBetween(LocalDateTime from, LocalDateTime to) {
+        return checkups.getCheckupsBetween(from, to);
+    }
+
+    @Override
+    public int countCheckupsBetween(LocalDateTime from, LocalDateTime to) {
+        return checkups.countCheckupsBetween(from, to);
+    }
+
+    /**
+     * Returns the checkups booked on {@code date}, in chronological order.
+     */
+    public List<ScheduledCheckup> getCheckupsOn(LocalDate date) {
+        return checkups.getCheckupsOn(date);
+    }
+
+    /**
+     * Returns true if the nurse named {@code nurseName} has a checkup less than 30 minutes away from
+     * {@code dateTime}.
+     */
+    public boolean isNurseBooked(String nurseName, LocalDateTime dateTime) {
+        return checkups.isNurseBooked(nurseName, dateTime);
+    }
+
     //// util methods
 
+    /**
+     * Returns the number of times the persons in the address book have been changed.
+     * The count only ever increases, so the address book is unchanged for as long as the count stays the same.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -0,0 +1,15 @@
+package seedu.address.model;
+
+/**
+ * The formats the address book can be saved in.
+ */
+public enum AddressBookFormat {
+    /** A json file, which can be read and edited by hand. */
+    JSON,
+    /** A compact binary snapshot, which is much faster to load. */
+    BINARY,
+    /** A json file per ward, of which only those that changed are saved. */
+    SHARDED,
+    /** An embedded database, to which each save only writes the persons that changed. */
+    DATABASE
+}
@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.checkup.ScheduledCheckup;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery;
 
 /**
  * The API of the Model component.
@@ -56,6 +62,12 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the number of times the address book has been changed.
+     * The address book is unchanged for as long as the count stays the same.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -67,9 +79,15 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Returns the person with the id {@code id}, if any.
+     */
+    Optional<Person> getPersonById(long id);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
+     * The filtered person list keeps its predicate, so the person is only listed if it matches the predicate.
      */
     void addPerson(Person person);
 
@@ -80,6 +98,33 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the patients assigned to {@code nurse}, in order of name.
+     */
+    List<Person> getAssignedPatients(Person nurse);
+
+    /**
+     * Returns true if at least one patient in the address book is assigned to {@code nurse}.
+     */
+    boolean hasAssignedPatients(Person nurse);
+
+    /**
+     * Returns the checkups booked from {@code from} (inclusive) to {@code to} (exclusive) across all patients,
+     * in chronological order.
+     */
+    List<ScheduledCheckup> getCheckupsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the checkups booked on {@code date} across all patients, in chronological order.
+     */
+    List<ScheduledCheckup> getCheckupsOn(LocalDate date);
+
+    /**
+     * Returns true if the nurse named {@code nurseName} has a checkup less than 30 minutes away from a checkup
+     * starting at {@code dateTime}.
+     */
+    boolean isNurseBooked(String nurseName, LocalDateTime dateTime);
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
@@ -92,8 +137,29 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code query}.
+     * The query is planned against the indexes of the address book, so only the persons that its indexed conditions
+     * look up are tested against it.
+     *
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPersonListByQuery(PersonQuery query);
+
     /**
      * Sorts the filtered person list in ascending order based on the earliest checkup date.
      */
     void updateFilteredPersonListByEarliestCheckup(Predicate<Person> predicate);
+
+    /**
+     * Shows only {@code person} in the filtered person list, until the filter is next updated.
+     * The person is tracked by its id, so it stays shown after it is edited.
+     * {@code person} must exist in the address book.
+     */
+    void focusFilteredPersonListOn(Person person);
+
+    /**
+     * Returns true if the filtered person list is focused on a single person.
+     */
+    boolean isFilteredPersonListFocused();
 }
@@ -1,11 +1,15 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,19 +18,25 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.checkup.Checkup;
+import seedu.address.model.checkup.ScheduledCheckup;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final String MESSAGE_PERSON_NOT_IN_ADDRESS_BOOK = "Person is not in the address book";
+    private static final Comparator<Person> NAME_ORDER = Comparator.comparing(person -> person.getName().toString());
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
+    private long focusedPersonId = Person.UNASSIGNED_ID;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -94,6 +104,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -105,10 +120,14 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public Optional<Person> getPersonById(long id) {
+        return addressBook.getPersonById(id);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -118,6 +137,36 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public List<Person> getAssignedPatients(Person nurse) {
+        requireNonNull(nurse);
+        return addressBook.getAssignedPatients(nurse);
+    }
+
+    @Override
+    public boolean hasAssignedPatients(Person nurse) {
+        requireNonNull(nurse);
+        return addressBook.hasAssignedPatients(nurse);
+    }
+
+    @Override
+    public List<ScheduledCheckup> getCheckupsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getCheckupsBetween(from, to);
+    }
+
+    @Override
+    public List<ScheduledCheckup> getCheckupsOn(LocalDate date) {
+        requireNonNull(date);
+        return addressBook.getCheckupsOn(date);
+    }
+
+    @Override
+    public boolean isNurseBooked(String nurseName, LocalDateTime dateTime) {
+        requireAllNonNull(nurseName, dateTime);
+        return addressBook.isNurseBooked(nurseName, dateTime);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -131,26 +180,51 @@ public class ModelManager implements Model {
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
-        updateFilteredPersonListHelper(predicate);
+        updateFilteredPersonListHelper(predicate, NAME_ORDER);
+    }
 
-        sortedPersons.setComparator(Comparator.comparing(person -> person.getName().toString()));
+    @Override
+    public void updateFilteredPersonListByQuery(PersonQuery query) {
+        requireNonNull(query);
+        QueryPlan plan = QueryPlanner.plan(query, addressBook);
+        updateFilteredPersonList(plan);
+        plan.releaseCandidates();
     }
 
     @Override
     public void updateFilteredPersonListByEarliestCheckup(Predicate<Person> predicate) {
-        updateFilteredPersonListHelper(predicate);
+        updateFilteredPersonListHelper(predicate, Person.EARLIEST_CHECKUP_ORDER);
+    }
 
-        sortedPersons.setComparator(Comparator.comparing(
-                person -> person.getCheckups().stream()
-                        .map(Checkup::getDateTime)
-                        .min(LocalDateTime::compareTo)
-                        .orElse(LocalDateTime.MAX)
-        ));
+    @Override
+    public void focusFilteredPersonListOn(Person person) {
+        requireNonNull(person);
+        checkArgument(person.hasId(), MESSAGE_PERSON_NOT_IN_ADDRESS_BOOK);
+
+        long personId = person.getId();
+        updateFilteredPersonList(listedPerson -> listedPerson.getId() == personId);
+        focusedPersonId = personId;
+    }
+
+    @Override
+    public boolean isFilteredPersonListFocused() {
+        return focusedPersonId != Person.UNASSIGNED_ID;
     }
 
-    private void updateFilteredPersonListHelper(Predicate<Person> predicate) {
+    /**
+     * Filters the person list with {@code predicate} and sorts it with {@code comparator}.
+     * The filtered and sorted lists already apply every later change to the address book in place, so they are only
+     * refiltered or resorted when the predicate or comparator is different from the one in use.
+     */
+    private void updateFilteredPersonListHelper(Predicate<Person> predicate, Comparator<Person> comparator) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        focusedPersonId = Person.UNASSIGNED_ID;
+        if (!predicate.equals(filteredPersons.getPredicate())) {
+            filteredPersons.setPredicate(predicate);
+        }
+        if (comparator != sortedPersons.getComparator()) {
+            sortedPersons.setComparator(comparator);
+        }
     }
 
     @Override
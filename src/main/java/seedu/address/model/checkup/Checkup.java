@@ -13,8 +13,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Represents a checkup appointment for a patient with a nurse.
+ * Checkups are ordered by their date and time.
  */
-public class Checkup {
+public class Checkup implements Comparable<Checkup> {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String MESSAGE_INVALID_DATETIME = "Time slot is not available";
@@ -45,6 +46,20 @@ public class Checkup {
         this.checkupDateTime = createCheckupDateTime(checkupDate, checkupTime);
     }
 
+    private Checkup(LocalDateTime checkupDateTime, Boolean isAdd) {
+        this.isAdding = isAdd;
+        this.checkupDateTime = checkupDateTime;
+    }
+
+    /**
+     * Returns a {@code Checkup} at {@code checkupDateTime}, which must have been taken from a valid {@code Checkup},
+     * without validating it again. The checkup is not being added, so it may have since passed.
+     */
+    public static Checkup ofTrusted(LocalDateTime checkupDateTime) {
+        requireNonNull(checkupDateTime);
+        return new Checkup(checkupDateTime, false);
+    }
+
     /**
      * Checks that both date and time are non-null.
      *
@@ -162,6 +177,11 @@ public class Checkup {
         return this.checkupDateTime.toLocalTime();
     }
 
+    @Override
+    public int compareTo(Checkup other) {
+        return checkupDateTime.compareTo(other.checkupDateTime);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(checkupDateTime);
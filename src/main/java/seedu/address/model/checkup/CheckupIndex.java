@@ -0,0 +1,168 @@
+package seedu.address.model.checkup;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.person.NurseAssignmentIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListIndex;
+
+/**
+ * Indexes every checkup in the address book by its date and time.
+ * Range queries return the checkups booked in a time interval across all patients in O(log n + k) time, where n is
+ * the number of distinct booked times and k is the number of checkups returned.
+ * <p>
+ * The index also keeps the schedule of every nurse assigned to a patient with checkups. Checkups are booked in
+ * 15-minute slots between 09:00 and 17:00, so a nurse's day fits in the bits of one {@code long}, with each checkup
+ * taking up the slots in the 30 minutes from its start. Whether a nurse is free at a given time is then a single mask
+ * test.
+ */
+public class CheckupIndex extends PersonListIndex {
+
+    private static final LocalTime FIRST_SLOT = LocalTime.of(9, 0);
+    private static final long SLOT_MINUTES = 15;
+    private static final long CHECKUP_MINUTES = 30;
+
+    private final NavigableMap<LocalDateTime, List<ScheduledCheckup>> checkupsByDateTime = new TreeMap<>();
+    private final Map<String, Map<LocalDate, Long>> bookedSlotsByNurseName = new HashMap<>();
+
+    /**
+     * Returns the checkups booked from {@code from} (inclusive) to {@code to} (exclusive), in chronological order.
+     */
+    public List<ScheduledCheckup> getCheckupsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        List<ScheduledCheckup> checkups = new ArrayList<>();
+        if (!from.isBefore(to)) {
+            return checkups;
+        }
+
+        checkupsByDateTime.subMap(from, true, to, false).values().forEach(checkups::addAll);
+        return checkups;
+    }
+
+    /**
+     * Returns the number of checkups booked from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    public int countCheckupsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        if (!from.isBefore(to)) {
+            return 0;
+        }
+
+        return checkupsByDateTime.subMap(from, true, to, false).values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Returns the checkups booked on {@code date}, in chronological order.
+     */
+    public List<ScheduledCheckup> getCheckupsOn(LocalDate date) {
+        requireNonNull(date);
+        return getCheckupsBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns true if the nurse named {@code nurseName} has a checkup that is less than 30 minutes away from a
+     * checkup starting at {@code dateTime}.
+     * Nurse names are matched ignoring case.
+     */
+    public boolean isNurseBooked(String nurseName, LocalDateTime dateTime) {
+        requireAllNonNull(nurseName, dateTime);
+        Map<LocalDate, Long> bookedSlotsByDate = bookedSlotsByNurseName.get(nurseName.toUpperCase());
+        if (bookedSlotsByDate == null) {
+            return false;
+        }
+
+        long bookedSlots = bookedSlotsByDate.getOrDefault(dateTime.toLocalDate(), 0L);
+        return (bookedSlots & slotsOf(dateTime.toLocalTime())) != 0;
+    }
+
+    /**
+     * Returns the slots taken up by a checkup starting at {@code time}, as a bit mask with bit i set for the i-th
+     * 15-minute slot of the day.
+     */
+    private static long slotsOf(LocalTime time) {
+        long minutes = FIRST_SLOT.until(time, ChronoUnit.MINUTES);
+        long firstSlot = minutes / SLOT_MINUTES;
+        long lastSlot = (minutes + CHECKUP_MINUTES - 1) / SLOT_MINUTES;
+        long slots = 0;
+        for (long slot = firstSlot; slot <= lastSlot; slot++) {
+            slots |= 1L << slot;
+        }
+        return slots;
+    }
+
+    @Override
+    protected void index(Person person) {
+        for (Checkup checkup : person.getCheckups()) {
+            ScheduledCheckup scheduledCheckup = new ScheduledCheckup(checkup, person);
+            checkupsByDateTime.computeIfAbsent(checkup.getDateTime(), unused -> new ArrayList<>(1))
+                    .add(scheduledCheckup);
+            bookSlots(scheduledCheckup);
+        }
+    }
+
+    private void bookSlots(ScheduledCheckup scheduledCheckup) {
+        LocalDateTime dateTime = scheduledCheckup.getDateTime();
+        for (String nurseName : scheduledCheckup.getNurseNames()) {
+            bookedSlotsByNurseName.computeIfAbsent(nurseName, unused -> new HashMap<>())
+                    .merge(dateTime.toLocalDate(), slotsOf(dateTime.toLocalTime()), (slots, newSlots) ->
+                            slots | newSlots);
+        }
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        for (Checkup checkup : person.getCheckups()) {
+            List<ScheduledCheckup> checkups = checkupsByDateTime.get(checkup.getDateTime());
+            if (checkups == null) {
+                continue;
+            }
+            checkups.removeIf(scheduledCheckup -> scheduledCheckup.getPatient() == person);
+            if (checkups.isEmpty()) {
+                checkupsByDateTime.remove(checkup.getDateTime());
+            }
+        }
+
+        // Slots may be shared by checkups of other patients of the same nurse, so the nurse's day is rebuilt
+        // from the checkups left on that day rather than cleared.
+        for (String nurseName : NurseAssignmentIndex.getAssignedNurseNames(person)) {
+            for (Checkup checkup : person.getCheckups()) {
+                rebuildSlots(nurseName, checkup.getDateTime().toLocalDate());
+            }
+        }
+    }
+
+    private void rebuildSlots(String nurseName, LocalDate date) {
+        Map<LocalDate, Long> bookedSlotsByDate = bookedSlotsByNurseName.get(nurseName);
+        if (bookedSlotsByDate == null) {
+            return;
+        }
+
+        long bookedSlots = 0;
+        for (ScheduledCheckup scheduledCheckup : getCheckupsOn(date)) {
+            if (scheduledCheckup.getNurseNames().contains(nurseName)) {
+                bookedSlots |= slotsOf(scheduledCheckup.getDateTime().toLocalTime());
+            }
+        }
+
+        if (bookedSlots != 0) {
+            bookedSlotsByDate.put(date, bookedSlots);
+            return;
+        }
+        bookedSlotsByDate.remove(date);
+        if (bookedSlotsByDate.isEmpty()) {
+            bookedSlotsByNurseName.remove(nurseName);
+        }
+    }
+}
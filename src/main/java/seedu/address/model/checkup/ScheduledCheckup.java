@@ -0,0 +1,82 @@
+package seedu.address.model.checkup;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.NurseAssignmentIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a {@code Checkup} as booked in the address book, together with the patient it is for and the nurses
+ * assigned to that patient.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class ScheduledCheckup {
+
+    private final Checkup checkup;
+    private final Person patient;
+    private final Set<String> nurseNames;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ScheduledCheckup(Checkup checkup, Person patient) {
+        requireAllNonNull(checkup, patient);
+        this.checkup = checkup;
+        this.patient = patient;
+        this.nurseNames = Collections.unmodifiableSet(NurseAssignmentIndex.getAssignedNurseNames(patient));
+    }
+
+    public Checkup getCheckup() {
+        return checkup;
+    }
+
+    public LocalDateTime getDateTime() {
+        return checkup.getDateTime();
+    }
+
+    public Person getPatient() {
+        return patient;
+    }
+
+    /**
+     * Returns the names of the nurses assigned to the patient, in upper case.
+     */
+    public Set<String> getNurseNames() {
+        return nurseNames;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScheduledCheckup)) {
+            return false;
+        }
+
+        ScheduledCheckup otherScheduledCheckup = (ScheduledCheckup) other;
+        return checkup.equals(otherScheduledCheckup.checkup)
+                && patient.equals(otherScheduledCheckup.patient);
+    }
+
+    @Override
+    public int hashCode() {
+        return checkup.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("checkup", checkup)
+                .add("patient", patient.getName())
+                .add("nurseNames", nurseNames)
+                .toString();
+    }
+}
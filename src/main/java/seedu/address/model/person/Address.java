@@ -25,10 +25,30 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, false);
+    }
+
+    /**
+     * Constructs an {@code Address} from {@code address}, which is trimmed and validated unless {@code isTrusted},
+     * in which case it was taken from a valid {@code Address} as it is.
+     */
+    private Address(String address, boolean isTrusted) {
         requireNonNull(address);
-        String trimmedAddress = trimAndNormalizeWhitespace(address);
-        checkArgument(isValidAddress(trimmedAddress), MESSAGE_CONSTRAINTS);
-        value = trimmedAddress;
+        if (isTrusted) {
+            value = address;
+        } else {
+            String trimmedAddress = trimAndNormalizeWhitespace(address);
+            checkArgument(isValidAddress(trimmedAddress), MESSAGE_CONSTRAINTS);
+            value = trimmedAddress;
+        }
+    }
+
+    /**
+     * Returns an {@code Address} with the given {@code value}, which must have been taken from a valid
+     * {@code Address}, without validating it again.
+     */
+    public static Address ofTrusted(String value) {
+        return new Address(value, true);
     }
 
     /**
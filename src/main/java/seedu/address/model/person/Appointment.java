@@ -25,9 +25,29 @@ public class Appointment {
      * @param appointment A valid appointment.
      */
     public Appointment(String appointment) {
+        this(appointment, false);
+    }
+
+    /**
+     * Constructs an {@code Appointment}. Unless {@code isTrusted}, {@code appointment} must be nurse or patient in
+     * any case and is capitalized; a trusted one was taken from a valid {@code Appointment} and is kept as it is.
+     */
+    private Appointment(String appointment, boolean isTrusted) {
         requireNonNull(appointment);
-        checkArgument(isValidAppointment(appointment), MESSAGE_CONSTRAINTS);
-        this.appointment = appointment.substring(0, 1).toUpperCase() + appointment.substring(1).toLowerCase();
+        if (isTrusted) {
+            this.appointment = appointment;
+        } else {
+            checkArgument(isValidAppointment(appointment), MESSAGE_CONSTRAINTS);
+            this.appointment = appointment.substring(0, 1).toUpperCase() + appointment.substring(1).toLowerCase();
+        }
+    }
+
+    /**
+     * Returns an {@code Appointment} with the given {@code appointment}, which must have been taken from a valid
+     * {@code Appointment}, without validating it again.
+     */
+    public static Appointment ofTrusted(String appointment) {
+        return new Appointment(appointment, true);
     }
 
     public static boolean isValidAppointment(String test) {
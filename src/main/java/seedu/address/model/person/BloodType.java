@@ -24,9 +24,29 @@ public class BloodType {
      * @param bloodType A valid bloodType.
      */
     public BloodType(String bloodType) {
+        this(bloodType, false);
+    }
+
+    /**
+     * Constructs a {@code BloodType}. Unless {@code isTrusted}, {@code bloodType} is upper-cased and checked to be
+     * one of the blood groups; otherwise it is already in that form.
+     */
+    private BloodType(String bloodType, boolean isTrusted) {
         requireNonNull(bloodType);
-        checkArgument(isValidBloodType(bloodType.toUpperCase()), MESSAGE_CONSTRAINTS);
-        this.bloodType = bloodType.toUpperCase();
+        if (isTrusted) {
+            this.bloodType = bloodType;
+        } else {
+            checkArgument(isValidBloodType(bloodType.toUpperCase()), MESSAGE_CONSTRAINTS);
+            this.bloodType = bloodType.toUpperCase();
+        }
+    }
+
+    /**
+     * Returns a {@code BloodType} with the given {@code bloodType}, which must have been taken from a valid
+     * {@code BloodType}, without validating it again.
+     */
+    public static BloodType ofTrusted(String bloodType) {
+        return new BloodType(bloodType, true);
     }
 
     /**
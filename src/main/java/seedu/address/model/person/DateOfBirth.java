@@ -37,6 +37,19 @@ public class DateOfBirth {
         this.dob = parseDate(dateOfBirth);
     }
 
+    private DateOfBirth(LocalDate dob) {
+        this.dob = dob;
+    }
+
+    /**
+     * Returns a {@code DateOfBirth} on {@code dob}, which must have been taken from a valid {@code DateOfBirth},
+     * without validating it again.
+     */
+    public static DateOfBirth ofTrusted(LocalDate dob) {
+        requireNonNull(dob);
+        return new DateOfBirth(dob);
+    }
+
 
     /**
      * Returns true if a given string is a valid email.
@@ -51,9 +64,9 @@ public class DateOfBirth {
             if (day < 1 || day > LocalDate.of(year, month, 1).lengthOfMonth()) {
                 return false;
             }
-            logger.info("Date of birth string = " + dateString);
+            logger.fine("Date of birth string = " + dateString);
             LocalDate doob = LocalDate.parse(dateString, FORMATTER);
-            logger.info("dob = " + doob.format(FORMATTER));
+            logger.fine("dob = " + doob.format(FORMATTER));
             return true;
         } catch (Exception e) {
             logger.warning(e.getMessage());
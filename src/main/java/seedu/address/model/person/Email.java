@@ -42,15 +42,31 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    /**
+     * Constructs an {@code Email} from {@code email}, where an empty email is saved as {@code nil}.
+     * Unless {@code isTrusted}, any other email is checked against the email format.
+     */
+    private Email(String email, boolean isTrusted) {
         requireNonNull(email);
         if (email.isEmpty() || email.equals("nil")) {
             value = "nil";
         } else {
-            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+            checkArgument(isTrusted || isValidEmail(email), MESSAGE_CONSTRAINTS);
             value = email;
         }
     }
 
+    /**
+     * Returns an {@code Email} with the given {@code value}, which must have been taken from a valid
+     * {@code Email}, without validating it again.
+     */
+    public static Email ofTrusted(String value) {
+        return new Email(value, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
@@ -24,6 +24,14 @@ public class MedicalHistory {
         this.medicalHistory = medicalHistory;
     }
 
+    /**
+     * Returns a {@code MedicalHistory} with the given {@code medicalHistory}, which must have been taken from a valid
+     * {@code MedicalHistory}, without validating it again.
+     */
+    public static MedicalHistory ofTrusted(String medicalHistory) {
+        return new MedicalHistory(medicalHistory);
+    }
+
     /**
      * Returns true if a given string is a valid medical history and false otherwise.
      */
@@ -27,10 +27,30 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    /**
+     * Constructs a {@code Name} from {@code name}, which is trimmed, validated and upper-cased unless
+     * {@code isTrusted}, in which case it is already the full name of a valid {@code Name}.
+     */
+    private Name(String name, boolean isTrusted) {
         requireNonNull(name);
-        String trimmedName = trimAndNormalizeWhitespace(name);
-        checkArgument(isValidName(trimmedName), MESSAGE_CONSTRAINTS);
-        fullName = trimmedName.toUpperCase();
+        if (isTrusted) {
+            fullName = name;
+        } else {
+            String trimmedName = trimAndNormalizeWhitespace(name);
+            checkArgument(isValidName(trimmedName), MESSAGE_CONSTRAINTS);
+            fullName = trimmedName.toUpperCase();
+        }
+    }
+
+    /**
+     * Returns a {@code Name} with the given {@code fullName}, which must have been taken from a valid
+     * {@code Name}, without validating it again.
+     */
+    public static Name ofTrusted(String fullName) {
+        return new Name(fullName, true);
     }
 
     /**
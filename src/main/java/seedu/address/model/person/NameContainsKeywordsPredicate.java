@@ -1,29 +1,61 @@
 package seedu.address.model.person;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.query.IndexedCondition;
+import seedu.address.model.query.PersonIndexes;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Candidates are looked up in the trigram index of names, which may return persons that do not match.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedCondition {
     private final List<String> keywords;
+    private final List<String> upperCaseKeywords;
 
+    /**
+     * Every keyword must be present, not null and free of whitespace.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.upperCaseKeywords = keywords.stream().map(String::toUpperCase).collect(Collectors.toList());
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns true if any part of the person's name contains any of the keywords, ignoring case.
+     * As keywords hold no whitespace, this is the same as the whole name containing the keyword.
+     */
     @Override
     public boolean test(Person person) {
         String fullName = person.getName().fullName.toUpperCase();
-        String[] nameParts = fullName.split(" ");
+        for (String keyword : upperCaseKeywords) {
+            if (fullName.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return Arrays.stream(nameParts)
-                .anyMatch(namePart -> keywords.stream()
-                        .anyMatch(keyword -> namePart.toUpperCase().contains(keyword.toUpperCase())));
+    @Override
+    public int estimateCandidates(PersonIndexes indexes) {
+        return indexes.estimateNameSearchCandidates(keywords);
+    }
+
+    @Override
+    public Set<Person> getCandidates(PersonIndexes indexes) {
+        return indexes.getNameSearchCandidates(keywords);
+    }
+
+    @Override
+    public boolean hasExactCandidates() {
+        return false;
     }
 
     @Override
@@ -0,0 +1,141 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes persons by the trigrams of their names, so the persons whose names contain a keyword can be found
+ * without testing every person.
+ * Names are indexed in upper case. Keywords shorter than a trigram are looked up by indexing the single characters and
+ * pairs of characters of each name as well.
+ */
+public class NameTrigramIndex extends PersonListIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> personsByGram = new HashMap<>();
+
+    /**
+     * Returns the persons whose names may contain any of {@code keywords}, ignoring case.
+     * Every person whose name contains one of the keywords is returned, but the returned persons must still be
+     * tested against the keywords, since a name can contain every trigram of a keyword without containing the
+     * keyword itself.
+     */
+    public Set<Person> getCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> candidates = newPersonSet();
+        for (String keyword : keywords) {
+            candidates.addAll(getCandidates(keyword.toUpperCase()));
+        }
+        return candidates;
+    }
+
+    private Set<Person> getCandidates(String keyword) {
+        if (keyword.length() <= GRAM_LENGTH) {
+            return personsByGram.getOrDefault(keyword, Collections.emptySet());
+        }
+
+        Set<Person> smallestPostings = null;
+        Set<Set<Person>> postings = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String trigram : trigramsOf(keyword)) {
+            Set<Person> persons = personsByGram.get(trigram);
+            if (persons == null) {
+                return Collections.emptySet();
+            }
+            postings.add(persons);
+            if (smallestPostings == null || persons.size() < smallestPostings.size()) {
+                smallestPostings = persons;
+            }
+        }
+
+        Set<Person> candidates = newPersonSet();
+        for (Person person : smallestPostings) {
+            if (postings.stream().allMatch(persons -> persons.contains(person))) {
+                candidates.add(person);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons {@link #getCandidates(Collection)} would return, found from the
+     * sizes of the postings alone.
+     */
+    public int estimateCandidates(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            estimate += estimateCandidates(keyword.toUpperCase());
+        }
+        return estimate;
+    }
+
+    private int estimateCandidates(String keyword) {
+        if (keyword.length() <= GRAM_LENGTH) {
+            return personsByGram.getOrDefault(keyword, Collections.emptySet()).size();
+        }
+
+        int smallestPostingsSize = Integer.MAX_VALUE;
+        for (String trigram : trigramsOf(keyword)) {
+            Set<Person> persons = personsByGram.get(trigram);
+            if (persons == null) {
+                return 0;
+            }
+            smallestPostingsSize = Math.min(smallestPostingsSize, persons.size());
+        }
+        return smallestPostingsSize;
+    }
+
+    @Override
+    protected void index(Person person) {
+        for (String gram : gramsOf(person.getName().fullName.toUpperCase())) {
+            personsByGram.computeIfAbsent(gram, unused -> newPersonSet()).add(person);
+        }
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        for (String gram : gramsOf(person.getName().fullName.toUpperCase())) {
+            Set<Person> persons = personsByGram.get(gram);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns every substring of {@code name} that is at most a trigram long.
+     */
+    private static Set<String> gramsOf(String name) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < name.length(); start++) {
+            for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, name.length()); end++) {
+                grams.add(name.substring(start, end));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> trigramsOf(String keyword) {
+        Set<String> trigrams = new HashSet<>();
+        for (int start = 0; start + GRAM_LENGTH <= keyword.length(); start++) {
+            trigrams.add(keyword.substring(start, start + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -20,7 +20,18 @@ public class NextOfKin {
      * @param input A valid string in the format "Name Phone", or null/empty.
      */
     public NextOfKin(String input) {
-        if (input == null || input.trim().isEmpty()) {
+        this(input, false);
+    }
+
+    /**
+     * Constructs a {@code NextOfKin} from {@code input}. Unless {@code isTrusted}, a null or blank input means that
+     * there is no next of kin, and any other input is validated and normalized. A trusted input is the value of a
+     * valid {@code NextOfKin}, kept as it is.
+     */
+    private NextOfKin(String input, boolean isTrusted) {
+        if (isTrusted) {
+            this.value = requireNonNull(input);
+        } else if (input == null || input.trim().isEmpty()) {
             this.value = "Next of Kin not provided";
         } else {
             checkArgument(isValidNextOfKin(input), MESSAGE_CONSTRAINTS);
@@ -28,6 +39,14 @@ public class NextOfKin {
         }
     }
 
+    /**
+     * Returns a {@code NextOfKin} with the given {@code value}, which must have been taken from a valid
+     * {@code NextOfKin}, without validating it again.
+     */
+    public static NextOfKin ofTrusted(String value) {
+        return new NextOfKin(value, true);
+    }
+
     /**
      * Returns true if the given input is a valid next of kin string.
      * Expected format: "Name Phone"
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes patients by the nurses assigned to them.
+ * A nurse is assigned to a patient by a {@code Tag} named "Nurse NURSE_NAME" on the patient, so the patients of a
+ * nurse can be looked up by the nurse's name without scanning every person and every tag.
+ */
+public class NurseAssignmentIndex extends PersonListIndex {
+
+    public static final String NURSE_TAG_PREFIX = "Nurse ";
+    public static final int MAX_NURSES_PER_PATIENT = 2;
+
+    private final Map<String, Set<Person>> patientsByNurseName = new HashMap<>();
+
+    /**
+     * Returns the names of the nurses assigned to {@code patient}, in upper case.
+     */
+    public static Set<String> getAssignedNurseNames(Person patient) {
+        requireNonNull(patient);
+        return patient.getTags().stream()
+                .filter(NurseAssignmentIndex::isNurseTag)
+                .map(tag -> tag.tagName.substring(NURSE_TAG_PREFIX.length()).toUpperCase())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns true if {@code tag} assigns a nurse to the patient it is on.
+     */
+    public static boolean isNurseTag(Tag tag) {
+        return tag.tagName.regionMatches(true, 0, NURSE_TAG_PREFIX, 0, NURSE_TAG_PREFIX.length());
+    }
+
+    /**
+     * Returns the patients assigned to {@code nurse}, in order of name.
+     */
+    public List<Person> getAssignedPatients(Person nurse) {
+        requireNonNull(nurse);
+        Set<Person> patients = patientsByNurseName.get(nurse.getName().fullName);
+        if (patients == null) {
+            return Collections.emptyList();
+        }
+
+        List<Person> sortedPatients = new ArrayList<>(patients);
+        sortedPatients.sort(Comparator.comparing(patient -> patient.getName().fullName));
+        return sortedPatients;
+    }
+
+    /**
+     * Returns true if at least one patient is assigned to {@code nurse}.
+     */
+    public boolean hasAssignedPatients(Person nurse) {
+        requireNonNull(nurse);
+        return patientsByNurseName.containsKey(nurse.getName().fullName);
+    }
+
+    @Override
+    protected void index(Person person) {
+        if (!person.isPatient()) {
+            return;
+        }
+        for (String nurseName : getAssignedNurseNames(person)) {
+            patientsByNurseName.computeIfAbsent(nurseName, unused ->
+                    Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        if (!person.isPatient()) {
+            return;
+        }
+        for (String nurseName : getAssignedNurseNames(person)) {
+            Set<Person> patients = patientsByNurseName.get(nurseName);
+            if (patients == null) {
+                continue;
+            }
+            patients.remove(person);
+            if (patients.isEmpty()) {
+                patientsByNurseName.remove(nurseName);
+            }
+        }
+    }
+}
@@ -3,9 +3,13 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.checkup.Checkup;
@@ -13,10 +17,25 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
+ * Each person in an address book has an id that stays the same when the person is edited and is saved with the
+ * address book. A person that has not been added to an address book has no id yet.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Person {
 
+    /** The id of a person that has not been given an id by an address book. */
+    public static final long UNASSIGNED_ID = 0;
+
+    /** Orders persons by their earliest checkup, with persons without checkups last. */
+    public static final Comparator<Person> EARLIEST_CHECKUP_ORDER = (first, second) -> {
+        if (first.earliestCheckup == null || second.earliestCheckup == null) {
+            return Boolean.compare(first.earliestCheckup == null, second.earliestCheckup == null);
+        }
+        return first.earliestCheckup.compareTo(second.earliestCheckup);
+    };
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final DateOfBirth dob;
@@ -28,10 +47,13 @@ public class Person {
     private final Address address;
     private final BloodType bloodType;
     private final Set<Tag> tags = new HashSet<>();
-    private final Set<Checkup> checkups = new HashSet<>();
+    private final NavigableSet<Checkup> checkups = new TreeSet<>();
     private final NextOfKin nextOfKin;
     private final Set<MedicalHistory> medicalHistory = new HashSet<>();
 
+    // Cached from the checkups, as it is the sort key of the checkup list
+    private final Checkup earliestCheckup;
+
     /**
      * Every field must be present and not null.
      */
@@ -50,6 +72,8 @@ public class Person {
         this.nextOfKin = nextOfKin;
         this.medicalHistory.addAll(medicalHistory);
         this.checkups.addAll(checkups);
+        this.earliestCheckup = this.checkups.isEmpty() ? null : this.checkups.first();
+        this.id = UNASSIGNED_ID;
     }
 
     /**
@@ -68,9 +92,46 @@ public class Person {
         this.nextOfKin = nextOfKin;
         this.tags.addAll(tags);
         this.medicalHistory.addAll(medicalHistory);
-        this.checkups.addAll(new HashSet<>());
+        this.earliestCheckup = null;
+        this.id = UNASSIGNED_ID;
     }
 
+    /**
+     * Copies every field of {@code source}, and gives the copy the id {@code id}.
+     */
+    private Person(Person source, long id) {
+        this.name = source.name;
+        this.dob = source.dob;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.address = source.address;
+        this.bloodType = source.bloodType;
+        this.appointment = source.appointment;
+        this.nextOfKin = source.nextOfKin;
+        this.tags.addAll(source.tags);
+        this.medicalHistory.addAll(source.medicalHistory);
+        this.checkups.addAll(source.checkups);
+        this.earliestCheckup = source.earliestCheckup;
+        this.id = id;
+    }
+
+    /**
+     * Returns a copy of this person with the id {@code id}.
+     */
+    public Person withId(long id) {
+        return new Person(this, id);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if this person has been given an id by an address book.
+     */
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
+    }
 
     public Name getName() {
         return name;
@@ -110,10 +171,21 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns an immutable checkup set in chronological order, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
     public Set<Checkup> getCheckups() {
         return Collections.unmodifiableSet(checkups);
     }
 
+    /**
+     * Returns the earliest checkup of the person, if the person has any checkups.
+     */
+    public Optional<Checkup> getEarliestCheckup() {
+        return Optional.ofNullable(earliestCheckup);
+    }
+
     public boolean hasCheckup() {
         return !checkups.isEmpty();
     }
@@ -162,8 +234,8 @@ public class Person {
             return false;
         }
 
-        String otherPersonPhone = otherPerson.getPhone().toString().replaceAll(" ", "");
-        String thisPersonPhone = getPhone().toString().replaceAll(" ", "");
+        String otherPersonPhone = otherPerson.getPhone().toString().replace(" ", "");
+        String thisPersonPhone = getPhone().toString().replace(" ", "");
 
         return otherPerson != null
                 && otherPerson.getName().equals(getName())
@@ -196,6 +268,7 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The id is not compared, as it is not part of the person's details.
      */
     @Override
     public boolean equals(Object other) {
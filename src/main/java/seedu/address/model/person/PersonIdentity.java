@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Represents the identity of a {@code Person}, as used by {@link Person#isSamePerson(Person)}.
+ * Two persons have equal identities if and only if they are the same person, which allows identities to be used as
+ * hash keys in place of a linear {@code isSamePerson} scan.
+ * Guarantees: immutable.
+ */
+public final class PersonIdentity {
+
+    private final String name;
+    private final String phone;
+    private final LocalDate dob;
+
+    private PersonIdentity(String name, String phone, LocalDate dob) {
+        this.name = name;
+        this.phone = phone;
+        this.dob = dob;
+    }
+
+    /**
+     * Returns the identity of {@code person}.
+     * Spaces in the phone number are ignored, in line with {@link Person#isSamePerson(Person)}.
+     */
+    public static PersonIdentity of(Person person) {
+        requireNonNull(person);
+        return new PersonIdentity(person.getName().fullName,
+                person.getPhone().value.replace(" ", ""),
+                person.getDateOfBirth().dob);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdentity)) {
+            return false;
+        }
+
+        PersonIdentity otherIdentity = (PersonIdentity) other;
+        return name.equals(otherIdentity.name)
+                && phone.equals(otherIdentity.phone)
+                && dob.equals(otherIdentity.dob);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, dob);
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + phone + " " + dob;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.model.person;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * A secondary index over a list of persons.
+ * The index is kept in step with the list by registering it as a {@code ListChangeListener} of the list, so every
+ * person added to the list is passed to {@link #index(Person)} and every person removed or replaced is passed to
+ * {@link #unindex(Person)}.
+ */
+public abstract class PersonListIndex implements ListChangeListener<Person> {
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::unindex);
+            change.getAddedSubList().forEach(this::index);
+        }
+    }
+
+    /**
+     * Adds {@code person}, which has just been added to the list, to this index.
+     */
+    protected abstract void index(Person person);
+
+    /**
+     * Removes {@code person}, which has just been removed from the list, from this index.
+     */
+    protected abstract void unindex(Person person);
+}
@@ -26,11 +26,26 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    /**
+     * Constructs a {@code Phone}, checking that {@code phone} is a valid phone number unless {@code isTrusted}.
+     */
+    private Phone(String phone, boolean isTrusted) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} with the given {@code value}, which must have been taken from a valid
+     * {@code Phone}, without validating it again.
+     */
+    public static Phone ofTrusted(String value) {
+        return new Phone(value, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +22,15 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The list keeps an index of its elements keyed by {@link PersonIdentity}, so that identity checks take constant time
+ * and bulk replacement takes linear time in the number of persons.
+ *
+ * Every person in the list has an id, given to it when it is added unless it already has one that is not in use.
+ * Replacing a person keeps its id. New ids are greater than any id the list has held, so they are not reused while
+ * the list exists. Only the ids of the persons are saved, so once the person with the greatest id is removed, the
+ * same id can be given out again after the address book is loaded from a file. The list keeps the position of each id,
+ * so a person in the list can be found by its id, and updated or removed without searching the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,25 +40,43 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PersonIdentity, Person> identityIndex = new HashMap<>();
+    private final Map<Long, Integer> positionsById = new HashMap<>();
+    private long nextId = Person.UNASSIGNED_ID + 1;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(PersonIdentity.of(toCheck));
+    }
+
+    /**
+     * Returns the person in the list with the id {@code id}, if any.
+     */
+    public Optional<Person> getById(long id) {
+        Integer position = positionsById.get(id);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
+     * The person is given a new id unless it has an id that is not in use.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person personWithId = toAdd.hasId() && !positionsById.containsKey(toAdd.getId())
+                ? toAdd
+                : toAdd.withId(nextId);
+        trackId(personWithId.getId());
+        identityIndex.put(PersonIdentity.of(personWithId), personWithId);
+        positionsById.put(personWithId.getId(), internalList.size());
+        internalList.add(personWithId);
     }
 
     /**
@@ -56,16 +87,24 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person storedTarget = internalList.get(index);
+        PersonIdentity targetIdentity = PersonIdentity.of(storedTarget);
+        PersonIdentity editedIdentity = PersonIdentity.of(editedPerson);
+        if (!targetIdentity.equals(editedIdentity) && identityIndex.containsKey(editedIdentity)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person editedPersonWithId = editedPerson.getId() == storedTarget.getId()
+                ? editedPerson
+                : editedPerson.withId(storedTarget.getId());
+        identityIndex.remove(targetIdentity);
+        identityIndex.put(editedIdentity, editedPersonWithId);
+        internalList.set(index, editedPersonWithId);
     }
 
     /**
@@ -74,27 +113,59 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person storedPerson = internalList.get(index);
+        identityIndex.remove(PersonIdentity.of(storedPerson));
+        positionsById.remove(storedPerson.getId());
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        positionsById.clear();
+        positionsById.putAll(replacement.positionsById);
+        trackId(replacement.nextId - 1);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Persons without an id, or with the same id as an earlier person in {@code persons}, are given new ids.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        persons.forEach(person -> trackId(person.getId()));
+
+        List<Person> personsWithIds = new ArrayList<>(persons.size());
+        Map<Long, Integer> replacementPositions = new HashMap<>();
+        for (Person person : persons) {
+            Person personWithId = person.hasId() && !replacementPositions.containsKey(person.getId())
+                    ? person
+                    : person.withId(nextId);
+            trackId(personWithId.getId());
+            replacementPositions.put(personWithId.getId(), personsWithIds.size());
+            personsWithIds.add(personWithId);
         }
+        Map<PersonIdentity, Person> replacementIndex = indexByIdentity(personsWithIds);
 
-        internalList.setAll(persons);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        positionsById.clear();
+        positionsById.putAll(replacementPositions);
+        internalList.setAll(personsWithIds);
     }
 
     /**
@@ -135,16 +206,36 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of {@code person} in the list, or -1 if it is not in the list.
+     * A person with an id is found through its id, and any other person by searching the list.
+     */
+    private int indexOf(Person person) {
+        Integer position = positionsById.get(person.getId());
+        if (position != null && internalList.get(position).equals(person)) {
+            return position;
+        }
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Makes sure that ids given out later are greater than {@code id}.
+     */
+    private void trackId(long id) {
+        nextId = Math.max(nextId, id + 1);
+    }
+
+    /**
+     * Returns {@code persons} indexed by their identities.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<PersonIdentity, Person> indexByIdentity(List<Person> persons) {
+        Map<PersonIdentity, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(PersonIdentity.of(person), person) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,69 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} has a given value, ignoring case, as a value of a {@code PersonAttribute}.
+ */
+public class AttributeCondition implements IndexedCondition {
+    private final PersonAttribute attribute;
+    private final String value;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public AttributeCondition(PersonAttribute attribute, String value) {
+        requireAllNonNull(attribute, value);
+        this.attribute = attribute;
+        this.value = PersonAttribute.normalise(value);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return attribute.hasValue(person, value);
+    }
+
+    @Override
+    public int estimateCandidates(PersonIndexes indexes) {
+        return indexes.getPersonsWith(attribute, value).size();
+    }
+
+    @Override
+    public Set<Person> getCandidates(PersonIndexes indexes) {
+        return indexes.getPersonsWith(attribute, value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttributeCondition)) {
+            return false;
+        }
+
+        AttributeCondition otherCondition = (AttributeCondition) other;
+        return attribute.equals(otherCondition.attribute) && value.equals(otherCondition.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(attribute, value);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("attribute", attribute)
+                .add("value", value)
+                .toString();
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.checkup.ScheduledCheckup;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} has a checkup in a range of dates, both inclusive.
+ */
+public class CheckupDateCondition implements IndexedCondition {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * {@code from} must not be after {@code to}.
+     */
+    public CheckupDateCondition(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.isAfter(to), DateOfBirthCondition.MESSAGE_CONSTRAINTS);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getCheckups().stream()
+                .map(checkup -> checkup.getDateTime().toLocalDate())
+                .anyMatch(date -> !date.isBefore(from) && !date.isAfter(to));
+    }
+
+    @Override
+    public int estimateCandidates(PersonIndexes indexes) {
+        return indexes.countCheckupsBetween(getStart(), getEnd());
+    }
+
+    @Override
+    public Set<Person> getCandidates(PersonIndexes indexes) {
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ScheduledCheckup checkup : indexes.getCheckupsBetween(getStart(), getEnd())) {
+            candidates.add(checkup.getPatient());
+        }
+        return candidates;
+    }
+
+    private LocalDateTime getStart() {
+        return from.atStartOfDay();
+    }
+
+    private LocalDateTime getEnd() {
+        return to.plusDays(1).atStartOfDay();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CheckupDateCondition)) {
+            return false;
+        }
+
+        CheckupDateCondition otherCondition = (CheckupDateCondition) other;
+        return from.equals(otherCondition.from) && to.equals(otherCondition.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
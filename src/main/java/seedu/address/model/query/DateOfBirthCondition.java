@@ -0,0 +1,75 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} was born in a range of dates, both inclusive.
+ */
+public class DateOfBirthCondition implements IndexedCondition {
+    public static final String MESSAGE_CONSTRAINTS = "The start of a date range cannot be after its end";
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * {@code from} must not be after {@code to}.
+     */
+    public DateOfBirthCondition(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.isAfter(to), MESSAGE_CONSTRAINTS);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        LocalDate dob = person.getDateOfBirth().dob;
+        return !dob.isBefore(from) && !dob.isAfter(to);
+    }
+
+    @Override
+    public int estimateCandidates(PersonIndexes indexes) {
+        return indexes.countPersonsBornBetween(from, to);
+    }
+
+    @Override
+    public Set<Person> getCandidates(PersonIndexes indexes) {
+        return indexes.getPersonsBornBetween(from, to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DateOfBirthCondition)) {
+            return false;
+        }
+
+        DateOfBirthCondition otherCondition = (DateOfBirthCondition) other;
+        return from.equals(otherCondition.from) && to.equals(otherCondition.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
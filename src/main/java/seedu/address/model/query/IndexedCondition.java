@@ -0,0 +1,33 @@
+package seedu.address.model.query;
+
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code QueryCondition} that can be looked up in {@code PersonIndexes}.
+ * It tells the planner how many candidates the lookup would give, so the planner can start from the most selective
+ * one.
+ */
+public interface IndexedCondition extends QueryCondition {
+
+    /**
+     * Returns an estimate of the number of persons {@link #getCandidates(PersonIndexes)} would return.
+     * The estimate must be cheaper to find than the candidates themselves.
+     */
+    int estimateCandidates(PersonIndexes indexes);
+
+    /**
+     * Returns the persons in {@code indexes} that may satisfy this condition, compared by identity.
+     * The returned set must not be modified.
+     */
+    Set<Person> getCandidates(PersonIndexes indexes);
+
+    /**
+     * Returns true if every candidate returned by {@link #getCandidates(PersonIndexes)} satisfies this condition,
+     * so the candidates need not be tested against it.
+     */
+    default boolean hasExactCandidates() {
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.query;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A field of a person that persons can be looked up by.
+ * Values are compared ignoring case, so they are normalised to upper case.
+ */
+public enum PersonAttribute {
+    APPOINTMENT(person -> Stream.of(person.getAppointment().appointment)),
+    BLOOD_TYPE(person -> Stream.of(person.getBloodType().bloodType)),
+    TAG(person -> person.getTags().stream().map(tag -> tag.tagName)),
+    MEDICAL_HISTORY(person -> person.getMedicalHistory().stream().map(history -> history.medicalHistory));
+
+    private final Function<Person, Stream<String>> valuesOf;
+
+    PersonAttribute(Function<Person, Stream<String>> valuesOf) {
+        this.valuesOf = valuesOf;
+    }
+
+    /**
+     * Returns the normalised values of this attribute of {@code person}.
+     */
+    public Set<String> getValues(Person person) {
+        return valuesOf.apply(person).map(PersonAttribute::normalise).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns true if {@code person} has {@code value}, ignoring case, as a value of this attribute.
+     */
+    public boolean hasValue(Person person, String value) {
+        return valuesOf.apply(person).anyMatch(value::equalsIgnoreCase);
+    }
+
+    /**
+     * Returns {@code value} in the form it is indexed by.
+     */
+    public static String normalise(String value) {
+        return value.trim().toUpperCase();
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListIndex;
+
+/**
+ * Indexes persons by the values of each {@code PersonAttribute}, and by their dates of birth.
+ * Persons with a given value are looked up in constant time, and persons born in a range of dates in
+ * O(log n + k) time, where n is the number of distinct dates of birth and k is the number of dates in the range.
+ */
+public class PersonAttributeIndex extends PersonListIndex {
+
+    private final Map<PersonAttribute, Map<String, Set<Person>>> personsByValue = new EnumMap<>(PersonAttribute.class);
+    private final NavigableMap<LocalDate, Set<Person>> personsByDateOfBirth = new TreeMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonAttributeIndex() {
+        for (PersonAttribute attribute : PersonAttribute.values()) {
+            personsByValue.put(attribute, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the persons that have {@code value}, ignoring case, as a value of {@code attribute}.
+     * The returned set is backed by the index and cannot be modified.
+     */
+    public Set<Person> getPersonsWith(PersonAttribute attribute, String value) {
+        requireAllNonNull(attribute, value);
+        Set<Person> persons = personsByValue.get(attribute).get(PersonAttribute.normalise(value));
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the persons born from {@code from} to {@code to}, both inclusive.
+     */
+    public Set<Person> getPersonsBornBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        Set<Person> persons = newPersonSet();
+        if (from.isAfter(to)) {
+            return persons;
+        }
+
+        personsByDateOfBirth.subMap(from, true, to, true).values().forEach(persons::addAll);
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons born from {@code from} to {@code to}, both inclusive.
+     */
+    public int countPersonsBornBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return 0;
+        }
+
+        return personsByDateOfBirth.subMap(from, true, to, true).values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    protected void index(Person person) {
+        for (PersonAttribute attribute : PersonAttribute.values()) {
+            Map<String, Set<Person>> personsWithValue = personsByValue.get(attribute);
+            for (String value : attribute.getValues(person)) {
+                personsWithValue.computeIfAbsent(value, unused -> newPersonSet()).add(person);
+            }
+        }
+        personsByDateOfBirth.computeIfAbsent(person.getDateOfBirth().dob, unused -> newPersonSet()).add(person);
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        for (PersonAttribute attribute : PersonAttribute.values()) {
+            Map<String, Set<Person>> personsWithValue = personsByValue.get(attribute);
+            for (String value : attribute.getValues(person)) {
+                removeFrom(personsWithValue, value, person);
+            }
+        }
+        removeFrom(personsByDateOfBirth, person.getDateOfBirth().dob, person);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Person>> personsByKey, K key, Person person) {
+        Set<Person> persons = personsByKey.get(key);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            personsByKey.remove(key);
+        }
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.checkup.ScheduledCheckup;
+import seedu.address.model.person.Person;
+
+/**
+ * The secondary indexes over a list of persons that a query can be planned against.
+ * Sets of persons returned are compared by identity, are backed by the indexes and must not be modified.
+ */
+public interface PersonIndexes {
+
+    /**
+     * Returns the persons whose names may contain any of {@code keywords}, ignoring case.
+     */
+    Set<Person> getNameSearchCandidates(Collection<String> keywords);
+
+    /**
+     * Returns an upper bound on the number of persons {@link #getNameSearchCandidates(Collection)} would return.
+     */
+    int estimateNameSearchCandidates(Collection<String> keywords);
+
+    /**
+     * Returns the persons that have {@code value}, ignoring case, as a value of {@code attribute}.
+     */
+    Set<Person> getPersonsWith(PersonAttribute attribute, String value);
+
+    /**
+     * Returns the persons born from {@code from} to {@code to}, both inclusive.
+     */
+    Set<Person> getPersonsBornBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the number of persons born from {@code from} to {@code to}, both inclusive.
+     */
+    int countPersonsBornBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the checkups booked from {@code from} (inclusive) to {@code to} (exclusive), in chronological order.
+     */
+    List<ScheduledCheckup> getCheckupsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the number of checkups booked from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    int countCheckupsBetween(LocalDateTime from, LocalDateTime to);
+}
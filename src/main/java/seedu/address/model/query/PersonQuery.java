@@ -0,0 +1,69 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies every one of a list of conditions.
+ * The conditions are looked up in the indexes of an address book by {@link QueryPlanner} when the query is run, so
+ * that only some persons have to be tested.
+ */
+public class PersonQuery implements Predicate<Person> {
+    public static final String MESSAGE_NO_CONDITIONS = "A query needs at least one condition";
+
+    private final List<QueryCondition> conditions;
+
+    /**
+     * {@code conditions} must not be empty.
+     */
+    public PersonQuery(List<QueryCondition> conditions) {
+        requireNonNull(conditions);
+        checkArgument(!conditions.isEmpty(), MESSAGE_NO_CONDITIONS);
+        this.conditions = List.copyOf(conditions);
+    }
+
+    public List<QueryCondition> getConditions() {
+        return conditions;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (QueryCondition condition : conditions) {
+            if (!condition.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherQuery = (PersonQuery) other;
+        return conditions.equals(otherQuery.conditions);
+    }
+
+    @Override
+    public int hashCode() {
+        return conditions.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("conditions", conditions).toString();
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.model.query;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A condition on persons that a {@code PersonQuery} is made of.
+ * A condition that can be looked up in {@code PersonIndexes} is an {@link IndexedCondition}, which the planner looks
+ * up before testing any person. Other conditions are only tested against persons.
+ */
+public interface QueryCondition extends Predicate<Person> {
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code PersonQuery} planned against the indexes of an address book by {@link QueryPlanner}.
+ * A planned query only tests the persons in its candidates, and only against the conditions that the candidates
+ * were not looked up by exactly. The rest are rejected without testing them.
+ * <p>
+ * The candidates may be backed by the indexes, so they are only valid until the address book is next changed. Once
+ * they are released, every person is tested against the whole query.
+ */
+public class QueryPlan implements Predicate<Person> {
+    private final PersonQuery query;
+    private final List<QueryCondition> conditionsToTest;
+    private Set<Person> candidates;
+
+    QueryPlan(PersonQuery query, Set<Person> candidates, List<QueryCondition> conditionsToTest) {
+        this.query = query;
+        this.candidates = candidates;
+        this.conditionsToTest = conditionsToTest;
+    }
+
+    /**
+     * Returns the persons that this plan tests, or an empty {@code Optional} if it tests every person.
+     */
+    public Optional<Set<Person>> getCandidates() {
+        return Optional.ofNullable(candidates);
+    }
+
+    /**
+     * Returns the conditions that the candidates are tested against.
+     */
+    public List<QueryCondition> getConditionsToTest() {
+        return candidates == null ? query.getConditions() : conditionsToTest;
+    }
+
+    /**
+     * Stops using the candidates, so that persons are tested against the whole query from now on.
+     */
+    public void releaseCandidates() {
+        candidates = null;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (candidates == null) {
+            return query.test(person);
+        }
+        if (!candidates.contains(person)) {
+            return false;
+        }
+        for (QueryCondition condition : conditionsToTest) {
+            if (!condition.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
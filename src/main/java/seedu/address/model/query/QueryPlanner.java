@@ -0,0 +1,84 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Plans how a {@code PersonQuery} is run against the indexes of an address book.
+ * <p>
+ * The conditions that can be looked up in an index are ordered by their estimated number of candidates. The
+ * candidates of the most selective one are looked up first, and are intersected with the candidates of each
+ * following one. Only the conditions without an index, or whose index does not match exactly, are left to be
+ * tested against the persons that remain. A query without any indexed condition tests every person.
+ */
+public class QueryPlanner {
+
+    /**
+     * How many times more candidates than are left a condition may look up and still be intersected with them.
+     * A condition whose lookup is larger than that is tested against the remaining candidates instead, as that is
+     * cheaper than building its candidates.
+     */
+    static final int INTERSECTION_LIMIT = 8;
+
+    /**
+     * Returns the plan for running {@code query} against {@code indexes}.
+     */
+    public static QueryPlan plan(PersonQuery query, PersonIndexes indexes) {
+        requireAllNonNull(query, indexes);
+        Map<IndexedCondition, Integer> estimates = new IdentityHashMap<>();
+        List<IndexedCondition> indexedConditions = new ArrayList<>();
+        List<QueryCondition> conditionsToTest = new ArrayList<>();
+        for (QueryCondition condition : query.getConditions()) {
+            if (!(condition instanceof IndexedCondition)) {
+                conditionsToTest.add(condition);
+                continue;
+            }
+            IndexedCondition indexedCondition = (IndexedCondition) condition;
+            estimates.put(indexedCondition, indexedCondition.estimateCandidates(indexes));
+            indexedConditions.add(indexedCondition);
+        }
+
+        if (indexedConditions.isEmpty()) {
+            return new QueryPlan(query, null, query.getConditions());
+        }
+
+        indexedConditions.sort(Comparator.comparingInt(estimates::get));
+        Set<Person> candidates = null;
+        for (IndexedCondition condition : indexedConditions) {
+            if (candidates != null && (long) estimates.get(condition) > (long) candidates.size() * INTERSECTION_LIMIT) {
+                conditionsToTest.add(condition);
+                continue;
+            }
+
+            Set<Person> conditionCandidates = condition.getCandidates(indexes);
+            candidates = candidates == null ? conditionCandidates : intersect(candidates, conditionCandidates);
+            if (!condition.hasExactCandidates()) {
+                conditionsToTest.add(condition);
+            }
+        }
+        return new QueryPlan(query, candidates, conditionsToTest);
+    }
+
+    private static Set<Person> intersect(Set<Person> smaller, Set<Person> larger) {
+        if (smaller.size() > larger.size()) {
+            return intersect(larger, smaller);
+        }
+
+        Set<Person> intersection = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : smaller) {
+            if (larger.contains(person)) {
+                intersection.add(person);
+            }
+        }
+        return intersection;
+    }
+}
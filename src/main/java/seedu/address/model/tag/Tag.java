@@ -21,11 +21,26 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, false);
+    }
+
+    /**
+     * Constructs a {@code Tag}, checking that {@code tagName} is a valid tag name unless {@code isTrusted}.
+     */
+    private Tag(String tagName, boolean isTrusted) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} with the given {@code tagName}, which must have been taken from a valid
+     * {@code Tag}, without validating it again.
+     */
+    public static Tag ofTrusted(String tagName) {
+        return new Tag(tagName, true);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,252 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.BloodType;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MedicalHistory;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NextOfKin;
+import seedu.address.model.person.NurseAssignmentIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address books of valid persons at any scale, the same for the same seed, unlike the few persons of
+ * {@link SampleDataUtil}.
+ * <p>
+ * The persons are made up of wards: a nurse followed by the patients assigned to them. Some patients are also assigned
+ * the nurse of the neighbouring ward, up to {@link NurseAssignmentIndex#MAX_NURSES_PER_PATIENT} nurses in all. Some
+ * patients have a checkup in a 30-minute slot between 9:00 AM and 5:00 PM, and the slots are spread so that no nurse
+ * has two checkups less than 30 minutes apart. Names, tags, blood types and medical history are skewed towards the
+ * first values of their pools, as common values are in real data. Nurses are assigned by name, so each nurse also has a
+ * middle name made from the number of their ward, which keeps their names unique.
+ * <p>
+ * Every person is generated from the seed and its index alone, so {@link #asAddressBook()} makes each person only when
+ * it is read, and a storage can save millions of persons without them all being held in memory.
+ */
+public class SyntheticDataGenerator {
+
+    public static final int DEFAULT_PATIENTS_PER_NURSE = 8;
+    public static final int MAX_PERSON_COUNT = 10_000_000;
+    public static final LocalDate DEFAULT_FIRST_CHECKUP_DATE = LocalDate.of(2030, 1, 7);
+    public static final String MESSAGE_INVALID_PERSON_COUNT =
+            "The number of persons should be between 0 and " + MAX_PERSON_COUNT;
+    public static final String MESSAGE_INVALID_PATIENTS_PER_NURSE =
+            "The number of patients per nurse should be positive";
+
+    private static final String[] FIRST_NAMES = {"Wei", "Mei", "Siti", "Muhammad", "Priya", "Alex", "Jun", "Nur",
+        "David", "Hui", "Ravi", "Bernice", "Charlotte", "Irfan", "Roy", "Aisha", "Kumar", "Grace", "Daniel", "Farah"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Wong", "Ong", "Goh", "Chua", "Abdullah",
+        "Kumar", "Teo", "Yeoh", "Ibrahim", "Balakrishnan", "Oliveiro", "Pereira", "Rahman", "Koh", "Chan", "Singh"};
+    // Ordered from the most to the least common
+    private static final String[] BLOOD_TYPES = {"O+", "A+", "B+", "AB+", "O-", "A-", "B-", "AB-"};
+    private static final String[] TAGS = {"Fall risk", "Wheelchair", "Allergic to penicillin", "Diabetic diet",
+        "Hard of hearing", "Vegetarian", "Night shift", "Newcomer", "Interpreter needed", "Isolation"};
+    private static final String[] MEDICAL_HISTORY = {"Hypertension", "Diabetes", "High cholesterol", "Asthma",
+        "Arthritis", "Heart disease", "Chronic kidney disease", "Stroke", "Dementia", "Osteoporosis"};
+    private static final String[] STREETS = {"Ang Mo Kio Ave 3", "Tampines Street 20", "Jurong West Ave 6",
+        "Bedok North Road", "Clementi Ave 2", "Yishun Ring Road", "Serangoon Gardens Street 26", "Geylang Street 29"};
+
+    // Higher values skew the picks from a pool more towards its first values
+    private static final double SKEW = 2.5;
+    private static final double TAG_RATE = 0.3;
+    private static final double SECOND_NURSE_RATE = 0.2;
+    private static final double CHECKUP_RATE = 0.3;
+    private static final int MAX_MEDICAL_HISTORY = 3;
+    private static final LocalTime FIRST_SLOT = LocalTime.of(9, 0);
+    private static final int SLOT_MINUTES = 30;
+    private static final int SLOTS_PER_DAY = 16;
+    private static final long FIRST_PHONE = 80_000_000;
+    private static final int NO_WARD = -1;
+
+    private final long seed;
+    private final int personCount;
+    private final int patientsPerNurse;
+    private final LocalDate firstCheckupDate;
+
+    /**
+     * Creates a generator of {@code personCount} persons from {@code seed}, with
+     * {@link #DEFAULT_PATIENTS_PER_NURSE} patients per nurse.
+     */
+    public SyntheticDataGenerator(long seed, int personCount) {
+        this(seed, personCount, DEFAULT_PATIENTS_PER_NURSE, DEFAULT_FIRST_CHECKUP_DATE);
+    }
+
+    /**
+     * Creates a generator of {@code personCount} persons from {@code seed}.
+     *
+     * @param patientsPerNurse the number of patients in the ward of each nurse.
+     * @param firstCheckupDate the earliest date of the generated checkups.
+     */
+    public SyntheticDataGenerator(long seed, int personCount, int patientsPerNurse, LocalDate firstCheckupDate) {
+        checkArgument(personCount >= 0 && personCount <= MAX_PERSON_COUNT, MESSAGE_INVALID_PERSON_COUNT);
+        checkArgument(patientsPerNurse > 0, MESSAGE_INVALID_PATIENTS_PER_NURSE);
+        requireNonNull(firstCheckupDate);
+        this.seed = seed;
+        this.personCount = personCount;
+        this.patientsPerNurse = patientsPerNurse;
+        this.firstCheckupDate = firstCheckupDate;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the address book of the generated persons. Each person is generated when it is read, and not kept.
+     */
+    public ReadOnlyAddressBook asAddressBook() {
+        ObservableList<Person> persons = new GeneratedPersonList();
+        return () -> persons;
+    }
+
+    /**
+     * Returns the person at {@code index}, with the id {@code index + 1}.
+     */
+    public Person getPerson(int index) {
+        Objects.checkIndex(index, personCount);
+        SplittableRandom random = randomOf(index);
+        boolean isNurse = getWardPosition(index) == 0;
+        Name name = getName(random, isNurse ? getWard(index) : NO_WARD);
+
+        Set<Tag> tags = new HashSet<>();
+        Set<MedicalHistory> medicalHistory = new HashSet<>();
+        Set<Checkup> checkups = new HashSet<>();
+        if (random.nextDouble() < TAG_RATE) {
+            tags.add(new Tag(pickSkewed(TAGS, random)));
+        }
+        if (!isNurse) {
+            addNurseTags(index, tags, random);
+            for (int count = random.nextInt(MAX_MEDICAL_HISTORY + 1); count > 0; count--) {
+                medicalHistory.add(new MedicalHistory(pickSkewed(MEDICAL_HISTORY, random)));
+            }
+            if (random.nextDouble() < CHECKUP_RATE) {
+                checkups.add(getCheckup(index));
+            }
+        }
+
+        // The phone number is unique to the index, so persons with the same name are still different persons
+        Phone phone = new Phone(String.valueOf(FIRST_PHONE + index));
+        Email email = new Email(name.fullName.toLowerCase().replace(' ', '.') + index + "@example.com");
+        Address address = new Address("Blk " + (1 + random.nextInt(999)) + " " + pickSkewed(STREETS, random)
+                + ", #" + (1 + random.nextInt(20)) + "-" + (1 + random.nextInt(99)));
+        NextOfKin nextOfKin = new NextOfKin(pickSkewed(FIRST_NAMES, random) + " "
+                + (90_000_000 + random.nextInt(10_000_000)));
+
+        return new Person(name, getDateOfBirth(random), phone, email, address,
+                new BloodType(pickSkewed(BLOOD_TYPES, random)), new Appointment(isNurse ? "Nurse" : "Patient"),
+                tags, nextOfKin, medicalHistory, checkups).withId(index + 1);
+    }
+
+    /**
+     * Assigns the patient at {@code index} the nurse of its ward, and sometimes the nurse of the neighbouring ward.
+     */
+    private void addNurseTags(int index, Set<Tag> tags, SplittableRandom random) {
+        int ward = getWard(index);
+        tags.add(new Tag(NurseAssignmentIndex.NURSE_TAG_PREFIX + getNurseName(ward)));
+        // The neighbouring ward books its checkups on the other days, so its nurse is free when the patient is booked
+        int neighbouringWard = ward ^ 1;
+        if (NurseAssignmentIndex.MAX_NURSES_PER_PATIENT > 1 && getNurseIndex(neighbouringWard) < personCount
+                && random.nextDouble() < SECOND_NURSE_RATE) {
+            tags.add(new Tag(NurseAssignmentIndex.NURSE_TAG_PREFIX + getNurseName(neighbouringWard)));
+        }
+    }
+
+    /**
+     * Returns the checkup of the patient at {@code index}. Each patient of a ward has its own slot, and wards book
+     * their checkups on alternate days, so no nurse is booked twice within 30 minutes.
+     */
+    private Checkup getCheckup(int index) {
+        int patientNumber = getWardPosition(index) - 1;
+        LocalDate date = firstCheckupDate.plusDays(2L * (patientNumber / SLOTS_PER_DAY) + getWard(index) % 2);
+        LocalTime time = FIRST_SLOT.plusMinutes((long) SLOT_MINUTES * (patientNumber % SLOTS_PER_DAY));
+        try {
+            // Generated checkups are not being added, so they are kept even once they have passed
+            return new Checkup(date, time, false);
+        } catch (ParseException e) {
+            throw new AssertionError("Generated checkups are within business hours", e);
+        }
+    }
+
+    private String getNurseName(int ward) {
+        return getName(randomOf(getNurseIndex(ward)), ward).fullName;
+    }
+
+    /**
+     * Returns a name picked with {@code random}, with a middle name unique to {@code ward} unless it is
+     * {@link #NO_WARD}.
+     */
+    private static Name getName(SplittableRandom random, int ward) {
+        String firstName = pickSkewed(FIRST_NAMES, random);
+        String lastName = pickSkewed(LAST_NAMES, random);
+        if (ward == NO_WARD) {
+            return new Name(firstName + " " + lastName);
+        }
+        StringBuilder middleName = new StringBuilder();
+        int remaining = ward;
+        do {
+            middleName.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        middleName.setCharAt(0, Character.toUpperCase(middleName.charAt(0)));
+        return new Name(firstName + " " + middleName + " " + lastName);
+    }
+
+    private static DateOfBirth getDateOfBirth(SplittableRandom random) {
+        LocalDate dateOfBirth = LocalDate.of(1930, 1, 1).plusDays(random.nextInt(80 * 365));
+        return new DateOfBirth(dateOfBirth.format(DateOfBirth.FORMATTER));
+    }
+
+    private int getWard(int index) {
+        return index / (patientsPerNurse + 1);
+    }
+
+    private int getWardPosition(int index) {
+        return index % (patientsPerNurse + 1);
+    }
+
+    private int getNurseIndex(int ward) {
+        return ward * (patientsPerNurse + 1);
+    }
+
+    private SplittableRandom randomOf(int index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+    }
+
+    private static String pickSkewed(String[] values, SplittableRandom random) {
+        return values[(int) (values.length * Math.pow(random.nextDouble(), SKEW))];
+    }
+
+    /**
+     * An unmodifiable list of the generated persons, each generated when it is read.
+     */
+    private class GeneratedPersonList extends ObservableListBase<Person> {
+        @Override
+        public Person get(int index) {
+            return getPerson(index);
+        }
+
+        @Override
+        public int size() {
+            return personCount;
+        }
+    }
+}
@@ -42,4 +42,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Writes any saved changes that the storage has not written to the data file in full yet.
+     * Does nothing by default, for storages that write the whole address book on every save.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flushAddressBook() throws IOException {}
+
 }
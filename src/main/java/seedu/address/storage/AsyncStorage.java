@@ -0,0 +1,227 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Storage} that saves the address book in the background, so a slow disk does not hold up the caller.
+ * <p>
+ * Saving the address book takes a snapshot of its persons, which are immutable, and leaves the writing to a single
+ * background thread. Snapshots of the same file that are saved before the writer gets to them replace each other, so a
+ * burst of saves is written once. A snapshot that fails to be written is kept until a later snapshot of the same file
+ * replaces it or the address book is flushed, and the failure is passed to the write failure handler.
+ * <p>
+ * Everything else, including flushing the address book, waits for the writes saved before it to finish.
+ */
+public class AsyncStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The snapshots waiting to be written, by file. Guarded by this.
+    private final Map<Path, ReadOnlyAddressBook> pendingSnapshots = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+
+    private volatile Consumer<IOException> writeFailureHandler = e -> {};
+
+    /**
+     * Creates an {@code AsyncStorage} that saves the address book to {@code storage} in the background.
+     */
+    public AsyncStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is called, on the background thread, when a snapshot fails to be written.
+     */
+    public void setWriteFailureHandler(Consumer<IOException> writeFailureHandler) {
+        requireNonNull(writeFailureHandler);
+        this.writeFailureHandler = writeFailureHandler;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            return runOnWriter(() -> storage.readAddressBook(filePath));
+        } catch (DataLoadingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Returns once the snapshot is taken, before it is written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        ReadOnlyAddressBook snapshot = snapshotOf(addressBook);
+        synchronized (this) {
+            pendingSnapshots.put(filePath, snapshot);
+            if (isWriteScheduled) {
+                return;
+            }
+            isWriteScheduled = true;
+        }
+        writer.execute(this::writeInBackground);
+    }
+
+    /**
+     * Writes the snapshots waiting to be written, including those that failed to be written before, and then flushes
+     * the address book.
+     *
+     * @throws IOException if a snapshot could not be written or the address book could not be flushed.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        try {
+            runOnWriter(() -> {
+                writePendingSnapshots();
+                storage.flushAddressBook();
+                return null;
+            });
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void writeInBackground() {
+        try {
+            writePendingSnapshots();
+        } catch (IOException e) {
+            writeFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes the snapshots waiting to be written. Snapshots that fail to be written are put back, unless a later
+     * snapshot of the same file has been saved since.
+     *
+     * @throws IOException the first failure, if any snapshot could not be written.
+     */
+    private void writePendingSnapshots() throws IOException {
+        Map<Path, ReadOnlyAddressBook> snapshots;
+        synchronized (this) {
+            snapshots = new LinkedHashMap<>(pendingSnapshots);
+            pendingSnapshots.clear();
+            isWriteScheduled = false;
+        }
+
+        IOException failure = null;
+        for (Map.Entry<Path, ReadOnlyAddressBook> snapshot : snapshots.entrySet()) {
+            try {
+                storage.saveAddressBook(snapshot.getValue(), snapshot.getKey());
+            } catch (IOException e) {
+                logger.warning("Failed to write address book to " + snapshot.getKey() + ": " + e);
+                synchronized (this) {
+                    pendingSnapshots.putIfAbsent(snapshot.getKey(), snapshot.getValue());
+                }
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Runs {@code task} on the background thread after the writes already scheduled, and waits for its result.
+     */
+    private <T> T runOnWriter(Callable<T> task) throws Exception {
+        Future<T> result = writer.submit(task);
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that is not changed by later changes to it.
+     * The persons themselves are immutable, so only the list of persons is copied.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        return () -> FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * The snapshot is much smaller and faster to read than the same address book in json, see {@link BinarySnapshot} for
+ * its format.
+ */
+public class BinaryAddressBookStorage extends FileAddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the data file at {@code filePath}.
+     * If {@code isSyncEnabled} is true, each save waits for the data to be on the disk before replacing the data file.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isSyncEnabled) {
+        super(filePath, isSyncEnabled);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is a binary snapshot.
+     */
+    static boolean isBinarySnapshot(Path filePath) throws DataLoadingException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return hasMagic(channel);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the checksum at the end of the binary snapshot at {@code filePath}, or null if the file is not a binary
+     * snapshot. Only the start and the end of the file are read, so the checksum is not checked against the snapshot.
+     */
+    static String readSnapshotChecksum(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (!hasMagic(channel) || channel.size() < 2 * Integer.BYTES) {
+                return null;
+            }
+            ByteBuffer checksum = ByteBuffer.allocate(Integer.BYTES);
+            channel.position(channel.size() - Integer.BYTES);
+            while (checksum.hasRemaining() && channel.read(checksum) >= 0) {
+                continue;
+            }
+            return String.format("%08x", checksum.flip().getInt());
+        }
+    }
+
+    private static boolean hasMagic(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        while (header.hasRemaining() && channel.read(header) >= 0) {
+            continue;
+        }
+        return BinarySnapshot.hasMagic(header.flip());
+    }
+
+    /**
+     * Reads the address book in the binary snapshot at {@code filePath}.
+     * The whole file is read into memory in one go through a {@code FileChannel}.
+     *
+     * @throws DataLoadingException if the file does not match its checksum or cannot be loaded.
+     */
+    static ReadOnlyAddressBook readSnapshot(Path filePath) throws DataLoadingException {
+        try {
+            return BinarySnapshot.read(readAllBytes(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    protected void writeDataFile(ReadOnlyAddressBook addressBook, Path filePath, boolean isSyncEnabled)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+            BinarySnapshot.write(addressBook.getPersonList(), out);
+            if (isSyncEnabled) {
+                channel.force(true);
+            }
+        }
+    }
+
+    @Override
+    protected boolean isDataFileIntact(Path filePath) throws IOException {
+        return BinarySnapshot.isChecksumValid(readAllBytes(filePath));
+    }
+
+    private static ByteBuffer readAllBytes(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file " + filePath + " is too large");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                continue;
+            }
+            return buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.BloodType;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MedicalHistory;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NextOfKin;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes and reads address books in a compact binary format.
+ * <p>
+ * A snapshot is made up of, in order:
+ * <ul>
+ *     <li>the {@link #MAGIC} number and the format {@link #VERSION}, as ints;</li>
+ *     <li>a string table: the number of strings, then each distinct string as its length in bytes and its UTF-8
+ *     bytes;</li>
+ *     <li>the number of persons, then each person as the length of the rest of its record in bytes, its id as a long,
+ *     its name, phone, email, address, blood type, appointment and next of kin as indices into the string table,
+ *     its date of birth as an epoch day, and its tags, medical history and checkups as counts followed by string
+ *     indices, or by epoch minutes for the checkups;</li>
+ *     <li>the CRC32C checksum of everything before it, as an int.</li>
+ * </ul>
+ * All numbers are big-endian. Every string is stored once, so values repeated across persons, such as tags, blood
+ * types and appointments, take up four bytes per use and are only made once when read.
+ * <p>
+ * Snapshots are only written from valid persons, so the values of a snapshot that matches its checksum are not
+ * validated again when read.
+ */
+final class BinarySnapshot {
+
+    public static final int MAGIC = 0x4D42414B; // "MBAK"
+    public static final int VERSION = 1;
+
+    static final String MESSAGE_CORRUPT_SNAPSHOT = "Address book snapshot is corrupt: %s";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Address book snapshot version %d is not supported";
+
+    private static final int NO_STRING = -1;
+    // The id, the seven string indices, the date of birth and the three counts of a person record
+    private static final int FIXED_RECORD_LENGTH = Long.BYTES + 11 * Integer.BYTES;
+
+    private BinarySnapshot() {}
+
+    /**
+     * Writes {@code persons} to {@code out} as a snapshot.
+     */
+    static void write(List<Person> persons, DataOutputStream out) throws IOException {
+        requireNonNull(persons);
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Person person : persons) {
+            addStrings(strings, person);
+        }
+
+        CRC32C checksum = new CRC32C();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, checksum));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        data.writeInt(persons.size());
+        for (Person person : persons) {
+            data.writeInt(FIXED_RECORD_LENGTH + Integer.BYTES * (person.getTags().size()
+                    + person.getMedicalHistory().size() + person.getCheckups().size()));
+            data.writeLong(person.hasId() ? person.getId() : Person.UNASSIGNED_ID);
+            data.writeInt(strings.get(person.getName().fullName));
+            data.writeInt((int) person.getDateOfBirth().dob.toEpochDay());
+            data.writeInt(strings.get(person.getPhone().value));
+            data.writeInt(strings.get(person.getEmail().value));
+            data.writeInt(strings.get(person.getAddress().value));
+            data.writeInt(strings.get(person.getBloodType().bloodType));
+            data.writeInt(strings.get(person.getAppointment().appointment));
+            data.writeInt(person.getNextOfKin() == null ? NO_STRING : strings.get(person.getNextOfKin().value));
+            data.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                data.writeInt(strings.get(tag.tagName));
+            }
+            data.writeInt(person.getMedicalHistory().size());
+            for (MedicalHistory medicalHistory : person.getMedicalHistory()) {
+                data.writeInt(strings.get(medicalHistory.medicalHistory));
+            }
+            data.writeInt(person.getCheckups().size());
+            for (Checkup checkup : person.getCheckups()) {
+                data.writeInt(toEpochMinute(checkup.getDateTime()));
+            }
+        }
+        data.flush();
+        out.writeInt((int) checksum.getValue());
+        out.flush();
+    }
+
+    private static void addStrings(Map<String, Integer> strings, Person person) {
+        addString(strings, person.getName().fullName);
+        addString(strings, person.getPhone().value);
+        addString(strings, person.getEmail().value);
+        addString(strings, person.getAddress().value);
+        addString(strings, person.getBloodType().bloodType);
+        addString(strings, person.getAppointment().appointment);
+        if (person.getNextOfKin() != null) {
+            addString(strings, person.getNextOfKin().value);
+        }
+        person.getTags().forEach(tag -> addString(strings, tag.tagName));
+        person.getMedicalHistory().forEach(medicalHistory -> addString(strings, medicalHistory.medicalHistory));
+    }
+
+    private static void addString(Map<String, Integer> strings, String string) {
+        strings.putIfAbsent(string, strings.size());
+    }
+
+    /**
+     * Returns true if {@code header}, the first bytes of a file, start with the magic number of a snapshot.
+     */
+    static boolean hasMagic(ByteBuffer header) {
+        return header.remaining() >= Integer.BYTES && header.getInt(header.position()) == MAGIC;
+    }
+
+    /**
+     * Returns true if the snapshot in {@code buffer} matches the checksum at its end.
+     */
+    static boolean isChecksumValid(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES) {
+            return false;
+        }
+        ByteBuffer content = buffer.duplicate();
+        content.limit(buffer.limit() - Integer.BYTES);
+        CRC32C checksum = new CRC32C();
+        checksum.update(content);
+        return (int) checksum.getValue() == buffer.getInt(buffer.limit() - Integer.BYTES);
+    }
+
+    /**
+     * Reads the snapshot in {@code buffer} into the model's {@code AddressBook} object.
+     *
+     * @throws IllegalValueException if the snapshot is corrupt or there were any data constraints violated.
+     */
+    static AddressBook read(ByteBuffer buffer) throws IllegalValueException {
+        requireNonNull(buffer);
+        if (!isChecksumValid(buffer)) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPT_SNAPSHOT, "checksum does not match"));
+        }
+        try {
+            return new Reader(buffer).read();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPT_SNAPSHOT, e));
+        }
+    }
+
+    private static int toEpochMinute(LocalDateTime dateTime) {
+        return Math.toIntExact(dateTime.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    private static LocalDateTime fromEpochMinute(int epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60L, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Reads a snapshot a person at a time. Values that are usually shared by many persons, such as tags, are only
+     * made once for each distinct string.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private String[] strings;
+        private final Map<Class<?>, Map<Integer, Object>> sharedValues = new HashMap<>();
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer.duplicate();
+            this.buffer.limit(buffer.limit() - Integer.BYTES);
+        }
+
+        AddressBook read() throws IllegalValueException {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT_SNAPSHOT, "not a snapshot"));
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            readStrings();
+
+            int personCount = readCount();
+            List<Person> persons = new ArrayList<>(personCount);
+            Set<Long> ids = new HashSet<>();
+            for (int i = 0; i < personCount; i++) {
+                Person person = readPerson();
+                if (person.hasId() && !ids.add(person.getId())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID);
+                }
+                persons.add(person);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT_SNAPSHOT, "unexpected data at the end"));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setPersons(persons);
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            return addressBook;
+        }
+
+        private void readStrings() throws IllegalValueException {
+            strings = new String[readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                int length = readCount();
+                int start = buffer.position();
+                buffer.position(start + length);
+                strings[i] = buffer.hasArray()
+                        ? new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8)
+                        : StandardCharsets.UTF_8.decode(buffer.duplicate().position(start).limit(start + length))
+                                .toString();
+            }
+        }
+
+        private int readCount() throws IllegalValueException {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPT_SNAPSHOT, "invalid count " + count));
+            }
+            return count;
+        }
+
+        private Person readPerson() throws IllegalValueException {
+            int recordLength = readCount();
+            int recordEnd = buffer.position() + recordLength;
+            long id = buffer.getLong();
+            Name name = value(buffer.getInt(), Name::ofTrusted);
+            DateOfBirth dob = toDateOfBirth(buffer.getInt());
+            Phone phone = value(buffer.getInt(), Phone::ofTrusted);
+            Email email = value(buffer.getInt(), Email::ofTrusted);
+            Address address = value(buffer.getInt(), Address::ofTrusted);
+            BloodType bloodType = sharedValue(BloodType.class, buffer.getInt(), BloodType::ofTrusted);
+            Appointment appointment = sharedValue(Appointment.class, buffer.getInt(), Appointment::ofTrusted);
+            int nextOfKinIndex = buffer.getInt();
+            NextOfKin nextOfKin = nextOfKinIndex == NO_STRING
+                    ? new NextOfKin(null)
+                    : value(nextOfKinIndex, NextOfKin::ofTrusted);
+
+            Set<Tag> tags = new HashSet<>();
+            for (int count = readCount(); count > 0; count--) {
+                tags.add(sharedValue(Tag.class, buffer.getInt(), Tag::ofTrusted));
+            }
+            Set<MedicalHistory> medicalHistory = new HashSet<>();
+            for (int count = readCount(); count > 0; count--) {
+                medicalHistory.add(sharedValue(MedicalHistory.class, buffer.getInt(), MedicalHistory::ofTrusted));
+            }
+            Set<Checkup> checkups = new HashSet<>();
+            for (int count = readCount(); count > 0; count--) {
+                checkups.add(toCheckup(buffer.getInt()));
+            }
+            // Skips any fields added to the record by a later version of the format
+            buffer.position(recordEnd);
+
+            Person person = new Person(name, dob, phone, email, address, bloodType, appointment, tags, nextOfKin,
+                    medicalHistory, checkups);
+            if (id == Person.UNASSIGNED_ID) {
+                return person;
+            }
+            if (id < Person.UNASSIGNED_ID) {
+                throw new IllegalValueException(JsonAdaptedPerson.INVALID_ID_MESSAGE);
+            }
+            return person.withId(id);
+        }
+
+        /**
+         * Returns the value made by {@code factory} from the string at {@code index}.
+         */
+        private <T> T value(int index, Function<String, T> factory) throws IllegalValueException {
+            try {
+                return factory.apply(strings[index]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+        }
+
+        /**
+         * Returns the value made by {@code factory} from the string at {@code index}, reusing the value made from the
+         * same string before, if any.
+         */
+        private <T> T sharedValue(Class<T> type, int index, Function<String, T> factory) throws IllegalValueException {
+            Map<Integer, Object> valuesOfType = sharedValues.computeIfAbsent(type, unused -> new HashMap<>());
+            Object value = valuesOfType.get(index);
+            if (value == null) {
+                value = value(index, factory);
+                valuesOfType.put(index, value);
+            }
+            return type.cast(value);
+        }
+
+        private DateOfBirth toDateOfBirth(int epochDay) throws IllegalValueException {
+            try {
+                return DateOfBirth.ofTrusted(LocalDate.ofEpochDay(epochDay));
+            } catch (DateTimeException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+        }
+
+        private Checkup toCheckup(int epochMinute) {
+            // Saved checkups are not being added, so checkups that have since passed are kept
+            return Checkup.ofTrusted(fromEpochMinute(epochMinute));
+        }
+    }
+}
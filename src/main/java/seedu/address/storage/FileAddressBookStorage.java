@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ChecksumUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that keeps the address book in a single data file on the hard disk.
+ * <p>
+ * A save writes the whole data file to a temporary file next to it, checks what was written and then moves it in place
+ * of the data file, keeping the data file it replaces as the previous generation. A save that is cut short therefore
+ * never leaves a half-written data file behind, and a data file that cannot be loaded is read from the previous
+ * generation instead. The data file that could not be loaded is then moved aside, so that it can still be looked at
+ * and fixed, and so that the next save keeps the previous generation it was read from.
+ * <p>
+ * Data files in any of the formats of the subclasses can be read, whichever format the storage writes, so switching
+ * formats keeps the data. The next save writes the data file in the storage's own format.
+ */
+public abstract class FileAddressBookStorage implements AddressBookStorage {
+
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String PREVIOUS_GENERATION_FILE_SUFFIX = ".bak";
+    public static final String REJECTED_FILE_SUFFIX = ".rejected";
+
+    private static final Logger logger = LogsCenter.getLogger(FileAddressBookStorage.class);
+
+    private Path filePath;
+    private final boolean isSyncEnabled;
+
+    /**
+     * Creates a {@code FileAddressBookStorage} for the data file at {@code filePath}.
+     * If {@code isSyncEnabled} is true, each save waits for the data to be on the disk before replacing the data file.
+     */
+    protected FileAddressBookStorage(Path filePath, boolean isSyncEnabled) {
+        this.filePath = filePath;
+        this.isSyncEnabled = isSyncEnabled;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the data file is missing or cannot be loaded, the previous generation of it is read instead, if there is one.
+     * A data file that cannot be loaded is then moved to a file with the {@link #REJECTED_FILE_SUFFIX}, replacing the
+     * data file moved there before.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path previousGenerationFilePath = siblingOf(filePath, PREVIOUS_GENERATION_FILE_SUFFIX);
+        if (!Files.exists(filePath)) {
+            if (!Files.exists(previousGenerationFilePath)) {
+                return Optional.empty();
+            }
+            logger.warning("Data file " + filePath + " not found. Reading the previous generation instead.");
+            return Optional.of(readDataFile(previousGenerationFilePath));
+        }
+
+        try {
+            return Optional.of(readDataFile(filePath));
+        } catch (DataLoadingException e) {
+            if (!Files.exists(previousGenerationFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded. Reading the previous generation instead.");
+            ReadOnlyAddressBook previousGeneration;
+            try {
+                previousGeneration = readDataFile(previousGenerationFilePath);
+            } catch (DataLoadingException previousGenerationException) {
+                e.addSuppressed(previousGenerationException);
+                throw e;
+            }
+            setAsideRejectedFile(filePath);
+            return Optional.of(previousGeneration);
+        }
+    }
+
+    /**
+     * Moves the data file at {@code filePath}, which could not be loaded, out of the way of the next save.
+     * The previous generation has already been read, so it is still used if the data file cannot be moved.
+     */
+    private static void setAsideRejectedFile(Path filePath) {
+        Path rejectedFilePath = siblingOf(filePath, REJECTED_FILE_SUFFIX);
+        try {
+            FileUtil.moveAtomically(filePath, rejectedFilePath);
+        } catch (IOException e) {
+            logger.warning("Error moving data file " + filePath + " to " + rejectedFilePath + ": " + e);
+            return;
+        }
+        logger.warning("Data file " + filePath + " could not be loaded and was moved to " + rejectedFilePath
+                + ". Fix it and move it back to use the data in it.");
+    }
+
+    /**
+     * Reads the address book in the data file at {@code filePath}, in whichever format it is in.
+     */
+    private static ReadOnlyAddressBook readDataFile(Path filePath) throws DataLoadingException {
+        if (BinaryAddressBookStorage.isBinarySnapshot(filePath)) {
+            return BinaryAddressBookStorage.readSnapshot(filePath);
+        }
+        return JsonAddressBookStorage.readJsonFile(filePath);
+    }
+
+    /**
+     * Returns the checksum stored at the end of the data file at {@code filePath}, in whichever format it is in, or
+     * null if it has none. Only the ends of the file are read, so the checksum is not checked against the data.
+     */
+    static String readStoredChecksum(Path filePath) throws IOException {
+        String snapshotChecksum = BinaryAddressBookStorage.readSnapshotChecksum(filePath);
+        return snapshotChecksum != null ? snapshotChecksum : ChecksumUtil.readChecksum(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path tempFilePath = siblingOf(filePath, TEMP_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(filePath);
+        writeDataFile(addressBook, tempFilePath, isSyncEnabled);
+        if (!isDataFileIntact(tempFilePath)) {
+            Files.deleteIfExists(tempFilePath);
+            throw new IOException("Data written to " + tempFilePath + " does not match its checksum");
+        }
+
+        if (Files.exists(filePath)) {
+            FileUtil.moveAtomically(filePath, siblingOf(filePath, PREVIOUS_GENERATION_FILE_SUFFIX));
+        }
+        FileUtil.moveAtomically(tempFilePath, filePath);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} in the storage's format, replacing the file if it exists.
+     * If {@code isSyncEnabled} is true, waits for the data to be on the disk before returning.
+     */
+    protected abstract void writeDataFile(ReadOnlyAddressBook addressBook, Path filePath, boolean isSyncEnabled)
+            throws IOException;
+
+    /**
+     * Returns true if the data file at {@code filePath}, just written by {@link #writeDataFile}, matches its checksum.
+     */
+    protected abstract boolean isDataFileIntact(Path filePath) throws IOException;
+
+    static Path siblingOf(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+}
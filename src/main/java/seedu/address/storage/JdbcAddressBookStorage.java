@@ -0,0 +1,391 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.BloodType;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MedicalHistory;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NextOfKin;
+import seedu.address.model.person.NurseAssignmentIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An {@code AddressBookStorage} that keeps the address book in an embedded H2 database file on the hard disk.
+ * <p>
+ * Persons, their tags, medical history and checkups, and the nurses assigned to patients are kept in tables of their
+ * own, indexed for lookups. The assignments are worked out from the tags of the patients, and are only kept for
+ * queries. Each save is one transaction that deletes and inserts only the persons that were added, edited or deleted
+ * since the address book was last read or saved, so a command that changes one person writes one person. Rows are
+ * inserted in no particular order, so persons are selected sorted by id, which puts a person added later after the
+ * persons already in the address book, as the list had them.
+ * <p>
+ * The database file is named after the data file, without its extension. If there is no database file yet, the data
+ * file itself is read instead, so switching to the database keeps the data.
+ */
+public class JdbcAddressBookStorage implements AddressBookStorage {
+
+    public static final String DATABASE_FILE_EXTENSION = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(JdbcAddressBookStorage.class);
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+
+    private static final List<String> SCHEMA = List.of(
+            "CREATE TABLE IF NOT EXISTS person (id BIGINT PRIMARY KEY, name VARCHAR NOT NULL,"
+                    + " date_of_birth DATE NOT NULL, phone VARCHAR NOT NULL, email VARCHAR NOT NULL,"
+                    + " address VARCHAR NOT NULL, blood_type VARCHAR NOT NULL, appointment VARCHAR NOT NULL,"
+                    + " next_of_kin VARCHAR NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS person_name ON person (name)",
+            "CREATE TABLE IF NOT EXISTS tag (person_id BIGINT NOT NULL REFERENCES person (id) ON DELETE CASCADE,"
+                    + " tag_name VARCHAR NOT NULL, PRIMARY KEY (person_id, tag_name))",
+            "CREATE INDEX IF NOT EXISTS tag_tag_name ON tag (tag_name)",
+            "CREATE TABLE IF NOT EXISTS medical_history (person_id BIGINT NOT NULL REFERENCES person (id)"
+                    + " ON DELETE CASCADE, medical_history VARCHAR NOT NULL,"
+                    + " PRIMARY KEY (person_id, medical_history))",
+            "CREATE TABLE IF NOT EXISTS checkup (person_id BIGINT NOT NULL REFERENCES person (id) ON DELETE CASCADE,"
+                    + " date_time TIMESTAMP NOT NULL, PRIMARY KEY (person_id, date_time))",
+            "CREATE INDEX IF NOT EXISTS checkup_date_time ON checkup (date_time)",
+            "CREATE TABLE IF NOT EXISTS nurse_assignment (patient_id BIGINT NOT NULL REFERENCES person (id)"
+                    + " ON DELETE CASCADE, nurse_name VARCHAR NOT NULL, PRIMARY KEY (patient_id, nurse_name))",
+            "CREATE INDEX IF NOT EXISTS nurse_assignment_nurse_name ON nurse_assignment (nurse_name)");
+
+    private final Path filePath;
+
+    // The persons as they were last read or saved at savedFilePath, by id. savedFilePath is null until the address
+    // book is first read or saved.
+    private Path savedFilePath;
+    private Map<Long, Person> savedPersons = new HashMap<>();
+
+    /**
+     * Creates a {@code JdbcAddressBookStorage} for the address book at {@code filePath}.
+     */
+    public JdbcAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the database file that keeps the address book at {@code filePath}.
+     */
+    public static Path getDatabaseFilePath(Path filePath) {
+        return FileAddressBookStorage.siblingOf(getDatabaseBasePath(filePath), DATABASE_FILE_EXTENSION);
+    }
+
+    private static Path getDatabaseBasePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex > 0 ? filePath.resolveSibling(fileName.substring(0, extensionIndex)) : filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(getDatabaseFilePath(filePath))) {
+            if (!Files.exists(filePath)) {
+                return Optional.empty();
+            }
+            logger.info("Database " + getDatabaseFilePath(filePath) + " not found. Reading the data file instead.");
+            return new JsonAddressBookStorage(filePath).readAddressBook();
+        }
+
+        List<Person> persons;
+        try (Connection connection = openConnection(filePath)) {
+            persons = readPersons(connection);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + getDatabaseFilePath(filePath) + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + getDatabaseFilePath(filePath) + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        savedFilePath = filePath;
+        savedPersons = toPersonsById(addressBook.getPersonList());
+        return Optional.of(addressBook);
+    }
+
+    private static List<Person> readPersons(Connection connection) throws SQLException, IllegalValueException {
+        Map<Long, Set<Tag>> tags = new HashMap<>();
+        Map<Long, Set<MedicalHistory>> medicalHistory = new HashMap<>();
+        Map<Long, Set<Checkup>> checkups = new HashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rows = statement.executeQuery("SELECT person_id, tag_name FROM tag")) {
+                while (rows.next()) {
+                    tags.computeIfAbsent(rows.getLong(1), unused -> new HashSet<>())
+                            .add(value(rows.getString(2), Tag::new));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery("SELECT person_id, medical_history FROM medical_history")) {
+                while (rows.next()) {
+                    medicalHistory.computeIfAbsent(rows.getLong(1), unused -> new HashSet<>())
+                            .add(value(rows.getString(2), MedicalHistory::new));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery("SELECT person_id, date_time FROM checkup")) {
+                while (rows.next()) {
+                    checkups.computeIfAbsent(rows.getLong(1), unused -> new HashSet<>())
+                            .add(toCheckup(rows.getObject(2, LocalDateTime.class)));
+                }
+            }
+
+            List<Person> persons = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery("SELECT id, name, date_of_birth, phone, email, address,"
+                    + " blood_type, appointment, next_of_kin FROM person ORDER BY id")) {
+                while (rows.next()) {
+                    long id = rows.getLong(1);
+                    if (id <= Person.UNASSIGNED_ID) {
+                        throw new IllegalValueException(JsonAdaptedPerson.INVALID_ID_MESSAGE);
+                    }
+                    persons.add(new Person(value(rows.getString(2), Name::new),
+                            toDateOfBirth(rows.getObject(3, LocalDate.class)),
+                            value(rows.getString(4), Phone::new),
+                            value(rows.getString(5), Email::new),
+                            value(rows.getString(6), Address::new),
+                            value(rows.getString(7), BloodType::new),
+                            value(rows.getString(8), Appointment::new),
+                            tags.getOrDefault(id, Set.of()),
+                            value(rows.getString(9), NextOfKin::new),
+                            medicalHistory.getOrDefault(id, Set.of()),
+                            checkups.getOrDefault(id, Set.of())).withId(id));
+                }
+            }
+            return persons;
+        }
+    }
+
+    /**
+     * Returns the value made by {@code factory} from {@code string}.
+     */
+    private static <T> T value(String string, Function<String, T> factory) throws IllegalValueException {
+        try {
+            return factory.apply(string);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static DateOfBirth toDateOfBirth(LocalDate date) throws IllegalValueException {
+        return value(date.format(DateOfBirth.FORMATTER), DateOfBirth::new);
+    }
+
+    private static Checkup toCheckup(LocalDateTime dateTime) throws IllegalValueException {
+        try {
+            // The checkup table has no constraints of its own, so business hours are checked again, but a checkup
+            // that was valid when scheduled may well be in the past by now
+            return new Checkup(dateTime.toLocalDate(), dateTime.toLocalTime(), false);
+        } catch (ParseException | IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the persons that changed since the address book was last read from or saved to {@code filePath} are
+     * written, in one transaction.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isKnown = filePath.equals(savedFilePath);
+        Map<Long, Person> persons = toPersonsById(addressBook.getPersonList());
+        List<Long> deletedIds = new ArrayList<>();
+        List<Person> changedPersons = new ArrayList<>();
+        if (isKnown) {
+            savedPersons.keySet().stream().filter(id -> !persons.containsKey(id)).forEach(deletedIds::add);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            if (!isKnown || savedPersons.get(person.getId()) != person) {
+                changedPersons.add(person);
+            }
+        }
+
+        try (Connection connection = openConnection(filePath)) {
+            connection.setAutoCommit(false);
+            try {
+                if (!isKnown) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.executeUpdate("DELETE FROM person");
+                    }
+                }
+                deletePersons(connection, deletedIds);
+                deletePersons(connection, changedPersons.stream().map(Person::getId).toList());
+                insertPersons(connection, changedPersons);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not save to database " + getDatabaseFilePath(filePath) + ": " + e, e);
+        }
+        savedFilePath = filePath;
+        savedPersons = persons;
+    }
+
+    private static void deletePersons(Connection connection, List<Long> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return;
+        }
+        // Tags, medical history, checkups and assignments are deleted with the person
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM person WHERE id = ?")) {
+            for (long id : ids) {
+                delete.setLong(1, id);
+                delete.addBatch();
+            }
+            delete.executeBatch();
+        }
+    }
+
+    private static void insertPersons(Connection connection, List<Person> persons) throws SQLException {
+        if (persons.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement insertPerson = connection.prepareStatement("INSERT INTO person (id, name,"
+                + " date_of_birth, phone, email, address, blood_type, appointment, next_of_kin)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+                PreparedStatement insertTag = connection.prepareStatement(
+                        "INSERT INTO tag (person_id, tag_name) VALUES (?, ?)");
+                PreparedStatement insertMedicalHistory = connection.prepareStatement(
+                        "INSERT INTO medical_history (person_id, medical_history) VALUES (?, ?)");
+                PreparedStatement insertCheckup = connection.prepareStatement(
+                        "INSERT INTO checkup (person_id, date_time) VALUES (?, ?)");
+                PreparedStatement insertAssignment = connection.prepareStatement(
+                        "INSERT INTO nurse_assignment (patient_id, nurse_name) VALUES (?, ?)")) {
+            for (Person person : persons) {
+                long id = person.getId();
+                insertPerson.setLong(1, id);
+                insertPerson.setString(2, person.getName().fullName);
+                insertPerson.setObject(3, person.getDateOfBirth().dob);
+                insertPerson.setString(4, person.getPhone().value);
+                insertPerson.setString(5, person.getEmail().value);
+                insertPerson.setString(6, person.getAddress().value);
+                insertPerson.setString(7, person.getBloodType().bloodType);
+                insertPerson.setString(8, person.getAppointment().appointment);
+                insertPerson.setString(9, person.getNextOfKin().value);
+                insertPerson.addBatch();
+                for (Tag tag : person.getTags()) {
+                    addBatch(insertTag, id, tag.tagName);
+                }
+                for (MedicalHistory medicalHistory : person.getMedicalHistory()) {
+                    addBatch(insertMedicalHistory, id, medicalHistory.medicalHistory);
+                }
+                for (Checkup checkup : person.getCheckups()) {
+                    addBatch(insertCheckup, id, checkup.getDateTime());
+                }
+                if (person.isPatient()) {
+                    for (String nurseName : NurseAssignmentIndex.getAssignedNurseNames(person)) {
+                        addBatch(insertAssignment, id, nurseName);
+                    }
+                }
+            }
+            // Persons first, as the other rows refer to them
+            insertPerson.executeBatch();
+            insertTag.executeBatch();
+            insertMedicalHistory.executeBatch();
+            insertCheckup.executeBatch();
+            insertAssignment.executeBatch();
+        }
+    }
+
+    private static void addBatch(PreparedStatement statement, long id, Object value) throws SQLException {
+        statement.setLong(1, id);
+        statement.setObject(2, value);
+        statement.addBatch();
+    }
+
+    /**
+     * Returns the persons in {@code persons} by id.
+     */
+    private static Map<Long, Person> toPersonsById(List<Person> persons) {
+        Map<Long, Person> personsById = new HashMap<>();
+        for (Person person : persons) {
+            personsById.put(person.getId(), person);
+        }
+        return personsById;
+    }
+
+    /**
+     * Opens a connection to the database that keeps the address book at {@code filePath}, creating the database and
+     * its tables if they do not exist yet.
+     */
+    private static Connection openConnection(Path filePath) throws SQLException {
+        Connection connection = DriverManager.getConnection(
+                JDBC_URL_PREFIX + getDatabaseBasePath(filePath).toAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+}
@@ -0,0 +1,337 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@code AddressBookStorage} that saves the address book as a snapshot in another {@code AddressBookStorage},
+ * and journals the changes made to the address book since the snapshot instead of saving it in full every time.
+ * <p>
+ * Each save appends one compact line per added, edited or deleted person to a journal file kept next to the data
+ * file. Persons are matched by their ids, and an unchanged person is the same {@code Person} object as when it was
+ * last saved, so working out what changed costs no more than a walk through the person list. The snapshot is
+ * rewritten, and the journal cleared, once the journal holds enough entries, when the address book is flushed, or
+ * when a change cannot be journaled, such as persons changing order.
+ * <p>
+ * Reading the address book reads the snapshot and replays the journal on top of it. An incomplete last line, left by
+ * a save that was cut short, is skipped. The first line of the journal records the checksum of the data file it was
+ * started against, so that a journal is not replayed on top of another generation of the data file, such as the
+ * previous generation read in place of a damaged data file. Such a journal is discarded instead.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int snapshotInterval;
+
+    // The persons as they were last saved, in order. Null until the address book is first read or saved.
+    private List<Person> savedPersons;
+    // The checksum of the data file the journal applies to, or null if there is no data file or no check is needed.
+    private String snapshotChecksum;
+    private int journalEntryCount;
+    private boolean isSnapshotDue;
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that rewrites the snapshot in {@code snapshotStorage} once
+     * the journal holds {@code snapshotInterval} entries.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int snapshotInterval) {
+        requireNonNull(snapshotStorage);
+        checkArgument(snapshotInterval > 0, "Snapshot interval should be positive");
+        this.snapshotStorage = snapshotStorage;
+        this.snapshotInterval = snapshotInterval;
+        Path filePath = snapshotStorage.getAddressBookFilePath();
+        journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the data file of this storage has a journal, so other files are read from the snapshot storage as is.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        // Read after the snapshot, as a data file that cannot be loaded is moved aside when its previous generation is
+        // read instead
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        String checksum;
+        try {
+            checksum = readSnapshotChecksum();
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        List<JsonAdaptedJournalEntry> entries = readJournal();
+        if (!entries.isEmpty() && entries.get(0).isSnapshot()) {
+            JsonAdaptedJournalEntry header = entries.remove(0);
+            if (!Objects.equals(header.getChecksum(), checksum)) {
+                discardJournal();
+                entries.clear();
+            }
+        }
+        if (snapshot.isEmpty() && entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Long, Person> personsById = new LinkedHashMap<>();
+        snapshot.ifPresent(addressBook -> addressBook.getPersonList()
+                .forEach(person -> personsById.put(person.getId(), person)));
+        AddressBook addressBook = new AddressBook();
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                if (entry.isPut()) {
+                    personsById.put(entry.getId(), entry.toModelType());
+                } else {
+                    personsById.remove(entry.getId());
+                }
+            }
+            addressBook.setPersons(new ArrayList<>(personsById.values()));
+        } catch (IllegalValueException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        savedPersons = new ArrayList<>(addressBook.getPersonList());
+        snapshotChecksum = checksum;
+        journalEntryCount = entries.size();
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Deletes a journal that was written against another generation of the data file than the one read, and makes
+     * sure that the next save rewrites the snapshot.
+     */
+    private void discardJournal() {
+        logger.warning("Journal file " + journalFilePath + " was written against another version of the data file."
+                + " Discarding the changes in it.");
+        isSnapshotDue = true;
+        try {
+            Files.deleteIfExists(journalFilePath);
+        } catch (IOException e) {
+            logger.warning("Error deleting journal file " + journalFilePath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the checksum at the end of the data file as it is now, or null if there is no data file.
+     * Every save ends the data file with the checksum of its contents, so only the end of the file is read.
+     * Only a single data file can be read from its previous generation, so other snapshot storages are not checked.
+     */
+    private String readSnapshotChecksum() throws IOException {
+        Path filePath = getAddressBookFilePath();
+        if (!(snapshotStorage instanceof FileAddressBookStorage) || !Files.isRegularFile(filePath)) {
+            return null;
+        }
+        return FileAddressBookStorage.readStoredChecksum(filePath);
+    }
+
+    private List<JsonAdaptedJournalEntry> readJournal() throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return new ArrayList<>();
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            try {
+                entries.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading line " + (i + 1) + " of journal file " + journalFilePath + ": " + e);
+                    throw new DataLoadingException(e);
+                }
+                // The last save was cut short. Appending after the incomplete line would corrupt the journal,
+                // so the next save rewrites the snapshot instead.
+                logger.warning("Skipping incomplete last line of journal file " + journalFilePath);
+                isSnapshotDue = true;
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data file of this storage has a journal, so other files are saved to the snapshot storage in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Optional<List<JsonAdaptedJournalEntry>> entries = savedPersons == null || isSnapshotDue
+                ? Optional.empty()
+                : findChanges(persons);
+        if (entries.isPresent() && entries.get().isEmpty()) {
+            return;
+        }
+        if (entries.isEmpty() || journalEntryCount + entries.get().size() >= snapshotInterval) {
+            saveSnapshot(addressBook);
+            return;
+        }
+
+        appendToJournal(entries.get(), journalEntryCount == 0);
+        journalEntryCount += entries.get().size();
+        savedPersons = new ArrayList<>(persons);
+    }
+
+    /**
+     * Saves the address book as it was last saved to the snapshot, if the journal holds any changes.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (savedPersons == null || journalEntryCount == 0) {
+            return;
+        }
+        List<Person> persons = savedPersons;
+        saveSnapshot(() -> FXCollections.unmodifiableObservableList(FXCollections.observableList(persons)));
+    }
+
+    private void saveSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, getAddressBookFilePath());
+        Files.deleteIfExists(journalFilePath);
+        savedPersons = new ArrayList<>(addressBook.getPersonList());
+        snapshotChecksum = readSnapshotChecksum();
+        journalEntryCount = 0;
+        isSnapshotDue = false;
+    }
+
+    /**
+     * Returns the journal entries that turn the persons last saved into {@code persons}, or an empty
+     * {@code Optional} if the change cannot be journaled.
+     * Replaying the entries removes the deleted persons, replaces the edited persons where they are and adds the new
+     * persons at the end, so the change can only be journaled if {@code persons} are in that order.
+     */
+    private Optional<List<JsonAdaptedJournalEntry>> findChanges(List<Person> persons) {
+        Map<Long, Person> personsById = new HashMap<>();
+        for (Person person : persons) {
+            if (!person.hasId()) {
+                return Optional.empty();
+            }
+            personsById.put(person.getId(), person);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        List<Person> keptPersons = new ArrayList<>(savedPersons.size());
+        for (Person savedPerson : savedPersons) {
+            if (personsById.containsKey(savedPerson.getId())) {
+                keptPersons.add(savedPerson);
+            } else {
+                entries.add(JsonAdaptedJournalEntry.remove(savedPerson.getId()));
+            }
+        }
+        if (persons.size() < keptPersons.size()) {
+            return Optional.empty();
+        }
+
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            boolean isKept = i < keptPersons.size();
+            if (isKept && keptPersons.get(i).getId() != person.getId()) {
+                return Optional.empty();
+            }
+            if (!isKept || keptPersons.get(i) != person) {
+                entries.add(JsonAdaptedJournalEntry.put(person));
+            }
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Appends {@code entries} to the journal, after the line recording the snapshot if {@code isNewJournal}.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries, boolean isNewJournal) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        if (isNewJournal) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.snapshot(snapshotChecksum))).append('\n');
+        }
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel journal = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -14,6 +16,10 @@ import seedu.address.model.checkup.Checkup;
  * Adapts a Checkup object for JSON serialization and deserialization.
  */
 public class JsonAdaptedCheckup {
+    public static final String MESSAGE_INVALID_CHECKUP = "Checkup's date or time is missing or invalid";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
     private final String date;
     private final String time;
 
@@ -36,22 +42,41 @@ public class JsonAdaptedCheckup {
      * @param source The Checkup object to adapt.
      */
     public JsonAdaptedCheckup(Checkup source) {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-        date = source.getCheckupDate().format(dateFormatter);
-        time = source.getCheckupTime().format(timeFormatter);
+        date = source.getCheckupDate().format(DATE_FORMATTER);
+        time = source.getCheckupTime().format(TIME_FORMATTER);
     }
 
     /**
      * Converts this JsonAdaptedCheckup back into a Checkup object.
+     * A saved checkup is not being added, so it is kept even if it has since passed.
      *
      * @return A Checkup object corresponding to this JSON representation.
-     * @throws IllegalValueException If the date or time is invalid.
+     * @throws IllegalValueException If the date or time is missing or invalid.
      */
     public Checkup toModelType() throws IllegalValueException {
-        LocalDate checkupDate = LocalDate.parse(date, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
-        LocalTime checkupTime = LocalTime.parse(time, DateTimeFormatter.ofPattern("HH:mm"));
+        LocalDateTime checkupDateTime = parseDateTime();
+        return new Checkup(checkupDateTime.toLocalDate(), checkupDateTime.toLocalTime(), false);
+    }
+
+    /**
+     * Converts this JsonAdaptedCheckup back into a Checkup object, without validating a checkup read from a data file
+     * that matched its checksum. The result is the same as that of {@link #toModelType()} for a valid checkup.
+     *
+     * @return A Checkup object corresponding to this JSON representation.
+     * @throws IllegalValueException If the date or time is missing or cannot be parsed.
+     */
+    public Checkup toTrustedModelType() throws IllegalValueException {
+        return Checkup.ofTrusted(parseDateTime());
+    }
 
-        return new Checkup(checkupDate, checkupTime, true);
+    private LocalDateTime parseDateTime() throws IllegalValueException {
+        if (date == null || time == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_CHECKUP);
+        }
+        try {
+            return LocalDateTime.of(LocalDate.parse(date, DATE_FORMATTER), LocalTime.parse(time, TIME_FORMATTER));
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_CHECKUP);
+        }
     }
 }
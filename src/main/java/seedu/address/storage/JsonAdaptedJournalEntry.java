@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a change to one person of an address book, as recorded in a journal.
+ * A change either puts a person, replacing the person with the same id if there is one, or removes the person with
+ * an id. The first line of a journal instead records the checksum of the snapshot that the changes apply to.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String PUT = "put";
+    public static final String REMOVE = "remove";
+    public static final String SNAPSHOT = "snapshot";
+    public static final String INVALID_ENTRY_MESSAGE = "Journal entry is neither a valid put nor a valid remove!";
+
+    private final String op;
+    private final Long id;
+    private final JsonAdaptedPerson person;
+    private final String checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("id") Long id,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("checksum") String checksum) {
+        this.op = op;
+        this.id = id;
+        this.person = person;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns an entry that puts {@code person}.
+     */
+    public static JsonAdaptedJournalEntry put(Person person) {
+        return new JsonAdaptedJournalEntry(PUT, person.getId(), new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry that removes the person with the id {@code id}.
+     */
+    public static JsonAdaptedJournalEntry remove(long id) {
+        return new JsonAdaptedJournalEntry(REMOVE, id, null, null);
+    }
+
+    /**
+     * Returns the entry that starts a journal of changes to the snapshot with the checksum {@code checksum}, or to
+     * no snapshot file if {@code checksum} is null.
+     */
+    public static JsonAdaptedJournalEntry snapshot(String checksum) {
+        return new JsonAdaptedJournalEntry(SNAPSHOT, null, null, checksum);
+    }
+
+    public boolean isPut() {
+        return PUT.equals(op);
+    }
+
+    public boolean isSnapshot() {
+        return SNAPSHOT.equals(op);
+    }
+
+    /**
+     * Returns the checksum of the snapshot recorded by this entry, or null if it was recorded without a snapshot file.
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Returns the id of the person this entry changes.
+     *
+     * @throws IllegalValueException if the entry has no valid id.
+     */
+    public long getId() throws IllegalValueException {
+        if (id == null || id <= 0 || !(PUT.equals(op) || REMOVE.equals(op))) {
+            throw new IllegalValueException(INVALID_ENTRY_MESSAGE);
+        }
+        return id;
+    }
+
+    /**
+     * Converts the person put by this entry into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if this entry does not put a person, or the person is invalid.
+     */
+    public Person toModelType() throws IllegalValueException {
+        if (!isPut() || person == null) {
+            throw new IllegalValueException(INVALID_ENTRY_MESSAGE);
+        }
+        Person modelPerson = person.toModelType();
+        if (modelPerson.getId() != getId()) {
+            throw new IllegalValueException(INVALID_ENTRY_MESSAGE);
+        }
+        return modelPerson;
+    }
+}
@@ -44,4 +44,17 @@ public class JsonAdaptedMedicalHistory {
         }
         return new MedicalHistory(medicalHistory);
     }
+
+    /**
+     * Converts this adapted medical history object into the model's {@code MedicalHistory} object, without validating
+     * a medical history read from a data file that matched its checksum.
+     *
+     * @throws IllegalValueException if the medical history is missing.
+     */
+    public MedicalHistory toTrustedModelType() throws IllegalValueException {
+        if (medicalHistory == null) {
+            throw new IllegalValueException(MedicalHistory.MESSAGE_CONSTRAINTS);
+        }
+        return MedicalHistory.ofTrusted(medicalHistory);
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -29,7 +31,9 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Person's id should be a positive number";
 
+    private final Long id;
     private final String name;
     private final String dob;
     private final String phone;
@@ -42,11 +46,22 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedCheckup> checkups = new ArrayList<>();
     private final List<JsonAdaptedMedicalHistory> medicalHistory = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no id.
+     */
+    public JsonAdaptedPerson(String name, String dob, String phone, String email, String address, String bloodType,
+                             String appointment, String nextOfKin, List<JsonAdaptedTag> tags,
+                             List<JsonAdaptedMedicalHistory> medicalHistory, List<JsonAdaptedCheckup> checkups) {
+        this(null, name, dob, phone, email, address, bloodType, appointment, nextOfKin, tags, medicalHistory,
+                checkups);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("dob") String dob,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id,
+                             @JsonProperty("name") String name, @JsonProperty("dob") String dob,
                              @JsonProperty("phone") String phone, @JsonProperty("email") String email,
                              @JsonProperty("address") String address,
                              @JsonProperty("bloodType") String bloodType,
@@ -55,6 +70,7 @@ class JsonAdaptedPerson {
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("medicalHistory") List<JsonAdaptedMedicalHistory> medicalHistory,
                              @JsonProperty("checkups") List<JsonAdaptedCheckup> checkups) {
+        this.id = id;
         this.name = name;
         this.dob = dob;
         this.phone = phone;
@@ -81,6 +97,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.hasId() ? source.getId() : null;
         name = source.getName().fullName;
         dob = source.getDateOfBirth().toString();
         phone = source.getPhone().value;
@@ -188,7 +205,67 @@ class JsonAdaptedPerson {
         final Set<Checkup> modelCheckups = new HashSet<>(personCheckups);
         final Set<MedicalHistory> modelMedicalHistory = new HashSet<>(personMedicalHistory);
 
-        return new Person(modelName, modelDateOfBirth, modelPhone, modelEmail, modelAddress, modelBloodType,
-                modelAppointment, modelTags, modelNextOfKin, modelMedicalHistory, modelCheckups);
+        return withSavedId(new Person(modelName, modelDateOfBirth, modelPhone, modelEmail, modelAddress,
+                modelBloodType, modelAppointment, modelTags, modelNextOfKin, modelMedicalHistory, modelCheckups));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, without validating
+     * the fields of a person read from a data file that matched its checksum, as they were valid when it was saved.
+     * Missing fields are still reported.
+     *
+     * @throws IllegalValueException if a field is missing, or a date or id cannot be read.
+     */
+    public Person toTrustedModelType() throws IllegalValueException {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        final Set<Checkup> modelCheckups = new HashSet<>();
+        for (JsonAdaptedCheckup checkup : checkups) {
+            modelCheckups.add(checkup.toTrustedModelType());
+        }
+        final Set<MedicalHistory> modelMedicalHistory = new HashSet<>();
+        for (JsonAdaptedMedicalHistory medicalHistory : medicalHistory) {
+            modelMedicalHistory.add(medicalHistory.toTrustedModelType());
+        }
+
+        final Name modelName = Name.ofTrusted(requireField(name, Name.class));
+        final DateOfBirth modelDateOfBirth;
+        try {
+            modelDateOfBirth = DateOfBirth.ofTrusted(LocalDate.parse(requireField(dob, DateOfBirth.class),
+                    DateOfBirth.FORMATTER));
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(DateOfBirth.MESSAGE_CONSTRAINTS);
+        }
+        final Phone modelPhone = Phone.ofTrusted(requireField(phone, Phone.class));
+        final Email modelEmail = Email.ofTrusted(requireField(email, Email.class));
+        final Address modelAddress = Address.ofTrusted(requireField(address, Address.class));
+        final BloodType modelBloodType = BloodType.ofTrusted(requireField(bloodType, BloodType.class));
+        final Appointment modelAppointment = Appointment.ofTrusted(requireField(appointment, Appointment.class));
+        final NextOfKin modelNextOfKin = nextOfKin == null ? new NextOfKin(null) : NextOfKin.ofTrusted(nextOfKin);
+
+        return withSavedId(new Person(modelName, modelDateOfBirth, modelPhone, modelEmail, modelAddress,
+                modelBloodType, modelAppointment, modelTags, modelNextOfKin, modelMedicalHistory, modelCheckups));
+    }
+
+    private static String requireField(String field, Class<?> fieldType) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldType.getSimpleName()));
+        }
+        return field;
+    }
+
+    /**
+     * Returns {@code person} with the id it was saved with, if any.
+     */
+    private Person withSavedId(Person person) throws IllegalValueException {
+        if (id == null) {
+            return person;
+        }
+        if (id <= Person.UNASSIGNED_ID) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+        return person.withId(id);
     }
 }
@@ -45,4 +45,17 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Converts this adapted tag object into the model's {@code Tag} object, without validating a tag name read from a
+     * data file that matched its checksum.
+     *
+     * @throws IllegalValueException if the tag name is missing.
+     */
+    public Tag toTrustedModelType() throws IllegalValueException {
+        if (tagName == null) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return Tag.ofTrusted(tagName);
+    }
+
 }
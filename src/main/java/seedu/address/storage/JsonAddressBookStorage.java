@@ -1,58 +1,74 @@
 package seedu.address.storage;
 
-import static java.util.Objects.requireNonNull;
-
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.nio.file.StandardOpenOption;
 import java.util.logging.Logger;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ChecksumUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * The json file ends with a checksum line, which is checked after each save and before the file is read.
+ * A data file without a checksum line, such as one written by hand, is read without being checked.
+ * <p>
+ * Persons that have not changed since the last save are not encoded again, see {@link JsonAddressBookWriter}. A save
+ * writes the json straight to the file, computing the checksum as it goes, so the whole file is never held in memory.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
+public class JsonAddressBookStorage extends FileAddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final int BUFFER_SIZE = 1 << 16;
 
-    private Path filePath;
+    private final JsonAddressBookWriter writer = new JsonAddressBookWriter();
 
     public JsonAddressBookStorage(Path filePath) {
-        this.filePath = filePath;
-    }
-
-    public Path getAddressBookFilePath() {
-        return filePath;
+        this(filePath, true);
     }
 
-    @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(filePath);
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the data file at {@code filePath}.
+     * If {@code isSyncEnabled} is true, each save waits for the data to be on the disk before replacing the data file.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isSyncEnabled) {
+        super(filePath, isSyncEnabled);
     }
 
     /**
-     * Similar to {@link #readAddressBook()}.
+     * Reads the address book in the json file at {@code filePath}, a person at a time.
      *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws DataLoadingException if the file does not match its checksum or cannot be loaded.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+    static ReadOnlyAddressBook readJsonFile(Path filePath) throws DataLoadingException {
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean hasChecksum = ChecksumUtil.hasChecksum(filePath);
+            if (hasChecksum && !ChecksumUtil.isChecksumValid(filePath)) {
+                throw new IOException("Data in " + filePath + " does not match its checksum");
+            }
+            // A file that matches its checksum was written by the app from valid persons, so its persons are not
+            // validated again. Files edited by hand have no checksum, and are fully validated.
+            try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+                return JsonSerializableAddressBook.readModelType(parser, hasChecksum);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -60,21 +76,26 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
+    protected void writeDataFile(ReadOnlyAddressBook addressBook, Path filePath, boolean isSyncEnabled)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream out = ChecksumUtil.newChecksummedStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+            Writer jsonOut = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            writer.write(addressBook, jsonOut);
+            jsonOut.write("\n");
+            jsonOut.flush();
+            ChecksumUtil.writeChecksumLine(out);
+            if (isSyncEnabled) {
+                channel.force(true);
+            }
+        }
     }
 
-    /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        requireNonNull(addressBook);
-        requireNonNull(filePath);
-
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    @Override
+    protected boolean isDataFileIntact(Path filePath) throws IOException {
+        return ChecksumUtil.isChecksumValid(filePath);
     }
 
 }
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes address books as json, the same as {@code JsonUtil.toJsonString(new JsonSerializableAddressBook(...))}.
+ * <p>
+ * The json of every person written is kept until the next write. Persons are immutable, so a person instance that is
+ * still in the address book at the next write is not encoded again, and a save after a single edit only encodes the
+ * edited person. Persons are looked up by identity, as persons that are equal may still differ in their details.
+ */
+class JsonAddressBookWriter {
+
+    // Indentation of a person in the persons array, relative to the person written on its own.
+    private static final String PERSON_INDENT = "  ";
+
+    private Map<Person, String> personJson = new IdentityHashMap<>();
+
+    /**
+     * Returns {@code addressBook} as indented json, the same as {@link #write(ReadOnlyAddressBook, Writer)} writes it.
+     */
+    public String toJsonString(ReadOnlyAddressBook addressBook) throws IOException {
+        StringWriter out = new StringWriter();
+        write(addressBook, out);
+        return out.toString();
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as indented json, a person at a time, and flushes {@code out}.
+     * {@code out} is left open. Only the json of the persons in {@code addressBook} is kept for the next write.
+     */
+    public synchronized void write(ReadOnlyAddressBook addressBook, Writer out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<Person, String> nextPersonJson = new IdentityHashMap<>(persons.size());
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                String json = personJson.get(person);
+                if (json == null) {
+                    json = encode(person);
+                }
+                nextPersonJson.put(person, json);
+                generator.writeRawValue(json);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        personJson = nextPersonJson;
+    }
+
+    /**
+     * Returns {@code person} as indented json, indented to be written in the persons array.
+     */
+    private static String encode(Person person) throws IOException {
+        return JsonUtil.toJsonString(new JsonAdaptedPerson(person)).replace("\n", "\n" + PERSON_INDENT);
+    }
+
+    /**
+     * Returns the number of persons whose json is kept for the next write.
+     */
+    synchronized int getCachedPersonCount() {
+        return personJson.size();
+    }
+}
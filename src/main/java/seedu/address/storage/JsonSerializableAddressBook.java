@@ -1,25 +1,42 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Large address books are converted into the model's {@code AddressBook} on all cores, a batch of persons at a time.
+ * The persons keep their order, and the error reported is the one that adding them in order would report first.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Persons list contains duplicate id(s).";
+
+    // Batches of persons read from a parser. Large enough to keep every core busy, small enough to not hold many
+    // persons in their JSON form at once.
+    static final int BATCH_SIZE = 4096;
+    // Smaller batches are converted on the calling thread, as splitting them up costs more than it saves.
+    static final int PARALLEL_THRESHOLD = 256;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -46,14 +63,121 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        addModelPersons(modelPersons, new HashSet<>(), new HashSet<>(), persons, false);
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Reads an address book in the same format as this class from {@code parser}, and converts it into the model's
+     * {@code AddressBook} object.
+     * Persons are converted a batch at a time as they are read, so they are never all held in their JSON form at once.
+     * Reading stops at the end of the address book, so anything after it is left unread.
+     *
+     * @throws IOException if the address book could not be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        return readModelType(parser, false);
+    }
+
+    /**
+     * Reads an address book in the same format as this class from {@code parser}, like
+     * {@link #readModelType(JsonParser)}. If {@code isTrusted}, the fields of the persons are not validated again,
+     * which should only be done for data that was valid when it was saved and has not changed since.
+     *
+     * @throws IOException if the address book could not be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Address book should be a JSON object");
+        }
+
+        List<Person> modelPersons = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!fieldName.equals("persons")) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Address book's persons should be a JSON array");
+            }
+
+            modelPersons = new ArrayList<>();
+            Set<Long> ids = new HashSet<>();
+            Set<PersonIdentity> identities = new HashSet<>();
+            List<JsonAdaptedPerson> batch = new ArrayList<>(BATCH_SIZE);
+            for (JsonToken person = parser.nextToken(); person != JsonToken.END_ARRAY; person = parser.nextToken()) {
+                if (person != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Each person should be a JSON object");
+                }
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == BATCH_SIZE) {
+                    addModelPersons(modelPersons, ids, identities, batch, isTrusted);
+                    batch.clear();
+                }
+            }
+            addModelPersons(modelPersons, ids, identities, batch, isTrusted);
+        }
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Address book is incomplete");
+        }
+        if (modelPersons == null) {
+            throw new JsonParseException(parser, "Address book has no persons field");
+        }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} and adds them to {@code modelPersons} in order.
+     * The persons are converted in parallel if there are enough of them. Any error, including a duplicate person or id,
+     * is then reported in order, so it is the same error that adding the persons one by one would report.
+     *
+     * @param ids the ids of the persons already in {@code modelPersons}.
+     * @param identities the identities of the persons already in {@code modelPersons}.
+     * @param isTrusted whether the fields of the persons can be converted without validating them.
+     */
+    private static void addModelPersons(List<Person> modelPersons, Set<Long> ids, Set<PersonIdentity> identities,
+            List<JsonAdaptedPerson> jsonAdaptedPersons, boolean isTrusted) throws IllegalValueException {
+        int size = jsonAdaptedPersons.size();
+        Person[] converted = new Person[size];
+        IllegalValueException[] errors = new IllegalValueException[size];
+        IntStream indices = size >= PARALLEL_THRESHOLD
+                ? IntStream.range(0, size).parallel()
+                : IntStream.range(0, size);
+        indices.forEach(i -> {
+            try {
+                JsonAdaptedPerson jsonAdaptedPerson = jsonAdaptedPersons.get(i);
+                converted[i] = isTrusted ? jsonAdaptedPerson.toTrustedModelType() : jsonAdaptedPerson.toModelType();
+            } catch (IllegalValueException e) {
+                errors[i] = e;
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            Person person = converted[i];
+            if (!identities.add(PersonIdentity.of(person))) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+            if (person.hasId() && !ids.add(person.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+            }
+            modelPersons.add(person);
         }
+    }
+
+    private static AddressBook toAddressBook(List<Person> modelPersons) {
+        // The persons are set in one go, so that persons saved without an id are not given the id of a person
+        // further down the list. Duplicates have already been reported in order by addModelPersons.
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
         return addressBook;
     }
 
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of a sharded address book, listing its shards and the files they are stored in.
+ */
+class JsonShardManifest {
+
+    private final long generation;
+    private final List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given generation and shards.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("generation") long generation, @JsonProperty("shards") List<Shard> shards) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    /**
+     * Returns the number of saves that changed the shards, which is part of the names of the files they wrote.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    /**
+     * A shard of the address book: the key shared by its persons, and the name of its file in the shard directory.
+     */
+    static class Shard {
+        private final String key;
+        private final String file;
+
+        /**
+         * Constructs a {@code Shard} with the given details.
+         */
+        @JsonCreator
+        public Shard(@JsonProperty("key") String key, @JsonProperty("file") String file) {
+            this.key = key;
+            this.file = file;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getFile() {
+            return file;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.NurseAssignmentIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.storage.JsonShardManifest.Shard;
+
+/**
+ * An {@code AddressBookStorage} that splits the address book into shards, each saved in a json file of its own.
+ * <p>
+ * Persons are put into shards by a shard key, by default {@link #BY_NURSE}. The shard files are kept in a directory
+ * next to the data file, together with a manifest listing them. A save only writes the shards whose persons changed
+ * since the last save, each to a new file, and then replaces the manifest, so a save that is cut short leaves the
+ * previous manifest and the files it lists untouched. Shards are read in parallel. A shard holds the persons of one
+ * nurse, spread out over the address book, so the persons of all shards are sorted by id to put them back in the
+ * order of the address book.
+ * <p>
+ * If there is no manifest yet, the data file itself is read instead, so switching to shards keeps the data.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String UNASSIGNED_SHARD_KEY = "UNASSIGNED";
+
+    public static final String MESSAGE_INVALID_MANIFEST = "Shard manifest %s is invalid";
+    public static final String MESSAGE_MISSING_SHARD = "Shard file %s is missing";
+
+    /**
+     * Puts each nurse in a shard of their own, together with the patients whose first assigned nurse, in order of
+     * name, they are. Patients without a nurse are put in the {@link #UNASSIGNED_SHARD_KEY} shard.
+     */
+    public static final Function<Person, String> BY_NURSE = person -> {
+        if (person.isNurse()) {
+            return person.getName().fullName;
+        }
+        return NurseAssignmentIndex.getAssignedNurseNames(person).stream()
+                .min(Comparator.naturalOrder())
+                .orElse(UNASSIGNED_SHARD_KEY);
+    };
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final String SHARD_FILE_EXTENSION = ".json";
+    private static final int MAX_SHARD_FILE_STEM_LENGTH = 40;
+
+    private final Path filePath;
+    private final Function<Person, String> shardKey;
+    private final boolean isSyncEnabled;
+    // One storage per shard key, so each keeps the json of the persons it saved.
+    private final Map<String, JsonAddressBookStorage> shardStorages = new HashMap<>();
+
+    // The shards as they were last read or saved at savedFilePath. savedFilePath is null until the address book is
+    // first read or saved.
+    private Path savedFilePath;
+    private long savedGeneration;
+    private Map<String, String> savedShardFiles = new HashMap<>();
+    private Map<String, List<Person>> savedShards = new HashMap<>();
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, BY_NURSE, true);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the address book at {@code filePath}, putting persons with the
+     * same {@code shardKey} in the same shard.
+     * If {@code isSyncEnabled} is true, each save waits for the data to be on the disk before replacing the manifest.
+     */
+    public ShardedAddressBookStorage(Path filePath, Function<Person, String> shardKey, boolean isSyncEnabled) {
+        requireNonNull(filePath);
+        requireNonNull(shardKey);
+        this.filePath = filePath;
+        this.shardKey = shardKey;
+        this.isSyncEnabled = isSyncEnabled;
+    }
+
+    /**
+     * Returns the directory that the shards of the address book at {@code filePath} are kept in.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return FileAddressBookStorage.siblingOf(filePath, SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path manifestFilePath = getShardDirectoryPath(filePath).resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestFilePath)) {
+            if (!Files.exists(filePath)) {
+                return Optional.empty();
+            }
+            logger.info("Shard manifest " + manifestFilePath + " not found. Reading the data file instead.");
+            return new JsonAddressBookStorage(filePath, isSyncEnabled).readAddressBook();
+        }
+
+        JsonShardManifest manifest = readManifest(manifestFilePath);
+        List<ReadOnlyAddressBook> shards = readShards(getShardDirectoryPath(filePath), manifest.getShards());
+        AddressBook addressBook = merge(shards);
+
+        savedFilePath = filePath;
+        savedGeneration = manifest.getGeneration();
+        savedShardFiles = new HashMap<>();
+        savedShards = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            String key = manifest.getShards().get(i).getKey();
+            savedShardFiles.put(key, manifest.getShards().get(i).getFile());
+            savedShards.put(key, List.copyOf(shards.get(i).getPersonList()));
+        }
+        return Optional.of(addressBook);
+    }
+
+    private static JsonShardManifest readManifest(Path manifestFilePath) throws DataLoadingException {
+        JsonShardManifest manifest;
+        try {
+            manifest = JsonUtil.fromJsonString(FileUtil.readFromFile(manifestFilePath), JsonShardManifest.class);
+        } catch (IOException e) {
+            logger.warning("Error reading from shard manifest " + manifestFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        Set<String> keys = new HashSet<>();
+        Set<String> files = new HashSet<>();
+        for (Shard shard : manifest.getShards()) {
+            if (shard == null || shard.getKey() == null || shard.getFile() == null
+                    || !keys.add(shard.getKey()) || !files.add(shard.getFile()) || !isShardFileName(shard.getFile())) {
+                throw new DataLoadingException(new IllegalValueException(
+                        String.format(MESSAGE_INVALID_MANIFEST, manifestFilePath)));
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Reads the shards of the address book in parallel, in the order they are listed in.
+     */
+    private List<ReadOnlyAddressBook> readShards(Path shardDirectoryPath, List<Shard> shards)
+            throws DataLoadingException {
+        Path[] shardFilePaths = new Path[shards.size()];
+        JsonAddressBookStorage[] storages = new JsonAddressBookStorage[shards.size()];
+        for (int i = 0; i < shards.size(); i++) {
+            shardFilePaths[i] = shardDirectoryPath.resolve(shards.get(i).getFile());
+            storages[i] = getShardStorage(shards.get(i).getKey(), shardFilePaths[i]);
+        }
+
+        ReadOnlyAddressBook[] addressBooks = new ReadOnlyAddressBook[shards.size()];
+        DataLoadingException[] errors = new DataLoadingException[shards.size()];
+        IntStream.range(0, shards.size()).parallel().forEach(i -> {
+            try {
+                addressBooks[i] = storages[i].readAddressBook(shardFilePaths[i]).orElse(null);
+            } catch (DataLoadingException e) {
+                errors[i] = e;
+            }
+        });
+
+        for (int i = 0; i < shards.size(); i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            if (addressBooks[i] == null) {
+                throw new DataLoadingException(new IOException(
+                        String.format(MESSAGE_MISSING_SHARD, shardFilePaths[i])));
+            }
+        }
+        return List.of(addressBooks);
+    }
+
+    /**
+     * Returns the persons in {@code shards} as one address book, in order of id.
+     */
+    private static AddressBook merge(List<ReadOnlyAddressBook> shards) throws DataLoadingException {
+        List<Person> persons = new ArrayList<>();
+        for (ReadOnlyAddressBook shard : shards) {
+            persons.addAll(shard.getPersonList());
+        }
+        persons.sort(Comparator.comparingLong(Person::getId));
+
+        try {
+            for (int i = 1; i < persons.size(); i++) {
+                if (persons.get(i - 1).getId() == persons.get(i).getId()) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID);
+                }
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        } catch (IllegalValueException ive) {
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the shards that changed since the address book was last read from or saved to {@code filePath} are written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path shardDirectoryPath = getShardDirectoryPath(filePath);
+        Path manifestFilePath = shardDirectoryPath.resolve(MANIFEST_FILE_NAME);
+        if (!filePath.equals(savedFilePath)) {
+            forgetSavedShards(manifestFilePath);
+        }
+
+        Map<String, List<Person>> shards = partition(addressBook.getPersonList());
+        long generation = savedGeneration + 1;
+        boolean isChanged = !filePath.equals(savedFilePath) || !shards.keySet().equals(savedShards.keySet());
+
+        // The files of the last manifest stay in use until the new manifest replaces it, so new files need new names
+        Set<String> fileNames = new HashSet<>(savedShardFiles.values());
+        Map<String, String> shardFiles = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Person>> shard : shards.entrySet()) {
+            String key = shard.getKey();
+            if (isSaved(key, shard.getValue())) {
+                shardFiles.put(key, savedShardFiles.get(key));
+                continue;
+            }
+            String fileName = createShardFileName(key, generation, fileNames);
+            List<Person> persons = shard.getValue();
+            getShardStorage(key, shardDirectoryPath.resolve(fileName)).saveAddressBook(() ->
+                    FXCollections.unmodifiableObservableList(FXCollections.observableList(persons)),
+                    shardDirectoryPath.resolve(fileName));
+            shardFiles.put(key, fileName);
+            isChanged = true;
+        }
+        if (!isChanged) {
+            return;
+        }
+
+        List<Shard> manifestShards = new ArrayList<>();
+        shardFiles.forEach((key, fileName) -> manifestShards.add(new Shard(key, fileName)));
+        writeManifest(manifestFilePath, new JsonShardManifest(generation, manifestShards));
+
+        savedFilePath = filePath;
+        savedGeneration = generation;
+        savedShardFiles = shardFiles;
+        savedShards = shards;
+        deleteUnlistedFiles(shardDirectoryPath, Set.copyOf(shardFiles.values()));
+    }
+
+    /**
+     * Forgets the shards last read or saved, so every shard is written by the next save.
+     * The generation and files of the manifest at {@code manifestFilePath}, if any, are kept so that they are not
+     * overwritten before the manifest is replaced.
+     */
+    private void forgetSavedShards(Path manifestFilePath) {
+        savedFilePath = null;
+        savedGeneration = 0;
+        savedShardFiles = new HashMap<>();
+        savedShards = new HashMap<>();
+        if (!Files.exists(manifestFilePath)) {
+            return;
+        }
+
+        try {
+            JsonShardManifest manifest = readManifest(manifestFilePath);
+            savedGeneration = manifest.getGeneration();
+            manifest.getShards().forEach(shard -> savedShardFiles.put(shard.getKey(), shard.getFile()));
+        } catch (DataLoadingException e) {
+            logger.warning("Shard manifest " + manifestFilePath + " could not be loaded and will be replaced: " + e);
+        }
+    }
+
+    /**
+     * Returns the persons in {@code persons} by shard key, keeping their order.
+     */
+    private Map<String, List<Person>> partition(List<Person> persons) {
+        Map<String, List<Person>> shards = new LinkedHashMap<>();
+        for (Person person : persons) {
+            shards.computeIfAbsent(shardKey.apply(person), unused -> new ArrayList<>()).add(person);
+        }
+        return shards;
+    }
+
+    /**
+     * Returns true if the shard with {@code key} was last read or saved with the same {@code persons}.
+     * Persons are immutable, so the same person objects in the same order mean the shard is unchanged.
+     */
+    private boolean isSaved(String key, List<Person> persons) {
+        List<Person> savedPersons = savedShards.get(key);
+        if (savedPersons == null || savedPersons.size() != persons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (savedPersons.get(i) != persons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private JsonAddressBookStorage getShardStorage(String key, Path shardFilePath) {
+        return shardStorages.computeIfAbsent(key, unused -> new JsonAddressBookStorage(shardFilePath, isSyncEnabled));
+    }
+
+    /**
+     * Returns a name for the file of the shard with {@code key}, written in {@code generation}, that is not one of
+     * {@code fileNames}, and adds it to them.
+     */
+    private static String createShardFileName(String key, long generation, Set<String> fileNames) {
+        String stem = key.toLowerCase().replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+        if (stem.isEmpty()) {
+            stem = "shard";
+        } else if (stem.length() > MAX_SHARD_FILE_STEM_LENGTH) {
+            stem = stem.substring(0, MAX_SHARD_FILE_STEM_LENGTH);
+        }
+        String fileName = stem + "-" + generation + SHARD_FILE_EXTENSION;
+        for (int i = 1; !fileNames.add(fileName); i++) {
+            fileName = stem + "-" + generation + "-" + i + SHARD_FILE_EXTENSION;
+        }
+        return fileName;
+    }
+
+    private static boolean isShardFileName(String fileName) {
+        return fileName.matches("[a-z0-9-]+\\" + SHARD_FILE_EXTENSION) && !fileName.equals(MANIFEST_FILE_NAME);
+    }
+
+    private void writeManifest(Path manifestFilePath, JsonShardManifest manifest) throws IOException {
+        Path tempFilePath = FileAddressBookStorage.siblingOf(manifestFilePath, FileAddressBookStorage.TEMP_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(manifestFilePath);
+        if (isSyncEnabled) {
+            FileUtil.writeToFileAndSync(tempFilePath, JsonUtil.toJsonString(manifest));
+        } else {
+            FileUtil.writeToFile(tempFilePath, JsonUtil.toJsonString(manifest));
+        }
+        FileUtil.moveAtomically(tempFilePath, manifestFilePath);
+    }
+
+    /**
+     * Deletes the files in the shard directory that are not in {@code fileNames}, such as the files of shards that
+     * were replaced or removed, other than the manifest.
+     * Files that cannot be deleted are left for the next save, as the manifest no longer lists them.
+     */
+    private static void deleteUnlistedFiles(Path shardDirectoryPath, Set<String> fileNames) {
+        try (Stream<Path> files = Files.list(shardDirectoryPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.equals(MANIFEST_FILE_NAME) && !fileNames.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not delete unused shard files in " + shardDirectoryPath + ": " + e);
+        }
+    }
+}
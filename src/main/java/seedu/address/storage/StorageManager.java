@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -7,6 +9,7 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -28,6 +31,24 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} that saves the address book at {@code filePath} in {@code format}.
+     */
+    public static AddressBookStorage createAddressBookStorage(AddressBookFormat format, Path filePath) {
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        case DATABASE:
+            return new JdbcAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -75,4 +96,10 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        logger.fine("Attempting to flush data file: " + getAddressBookFilePath());
+        addressBookStorage.flushAddressBook();
+    }
+
 }
@@ -163,6 +163,14 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows {@code message} about data that could not be saved in the result display.
+     */
+    void showSaveFailure(String message) {
+        logger.warning(message);
+        resultDisplay.setFeedbackToUser(message);
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
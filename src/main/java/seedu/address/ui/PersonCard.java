@@ -102,7 +102,6 @@ public class PersonCard extends UiPart<Region> {
 
         person.getCheckups().stream()
                 .filter(checkup -> checkup != null && !checkup.toString().trim().isEmpty())
-                .sorted(Comparator.comparing(checkup -> checkup.checkupDateTime))
                 .forEach(checkup -> {
                     Label checkupLabel = new Label(checkup.toString());
                     checkupLabel.getStyleClass().add("checkup-label");
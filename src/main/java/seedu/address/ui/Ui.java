@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Tells the user that the data could not be saved, with {@code message} explaining why. */
+    void showSaveFailure(String message);
+
 }
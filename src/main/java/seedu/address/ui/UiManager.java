@@ -50,6 +50,14 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showSaveFailure(String message) {
+        if (mainWindow == null) {
+            return;
+        }
+        mainWindow.showSaveFailure(message);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -39,6 +39,19 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(List.of("--headless", "--config=config.json")));
+        assertEquals(new AppParameters(), AppParameters.parse(List.of("--config=a\0")));
+    }
+
+    @Test
+    public void getNamedParameters() {
+        assertEquals(Map.of("config", "a=b", "output", ""), AppParameters.getNamedParameters(
+                List.of("--headless", "--config=a=b", "--output=", "--=value", "-x=y", "file")));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
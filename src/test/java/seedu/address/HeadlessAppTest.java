@@ -0,0 +1,235 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.APPOINTMENT_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.BLOOD_TYPE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.DOB_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NOK_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.BatchExecutor;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + DOB_DESC_AMY
+            + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + BLOOD_TYPE_AMY + APPOINTMENT_AMY + NOK_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Logic logic;
+    // What the last call to launch printed to the standard output and error
+    private final ByteArrayOutputStream launchOutput = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream launchError = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new HeadlessApp(null, HeadlessApp.OutputFormat.TEXT));
+        assertThrows(NullPointerException.class, () -> new HeadlessApp(logic, null));
+    }
+
+    @Test
+    public void run_textOutput_printsFeedbackAndErrors() throws IOException {
+        String script = "# adds Amy\n"
+                + ADD_AMY_COMMAND + "\n"
+                + "\n"
+                + "unknown\n"
+                + "  " + ListCommand.COMMAND_WORD + "  \n";
+        StringWriter output = new StringWriter();
+
+        int failureCount = run(HeadlessApp.OutputFormat.TEXT, script, output);
+
+        String addedFeedback = String.format(AddCommand.MESSAGE_SUCCESS,
+                Messages.format(new PersonBuilder(AMY).withTags().build()));
+        assertEquals(1, failureCount);
+        assertEquals(List.of(addedFeedback,
+                String.format(HeadlessApp.MESSAGE_ERROR_FORMAT, MESSAGE_UNKNOWN_COMMAND),
+                ListCommand.MESSAGE_SUCCESS_ALL), output.toString().lines().toList());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_jsonOutput_printsLineOfJsonPerCommand() throws IOException {
+        String script = ListCommand.COMMAND_WORD + "\n"
+                + "# a comment\n"
+                + "unknown \"quoted\"\n";
+        StringWriter output = new StringWriter();
+
+        int failureCount = run(HeadlessApp.OutputFormat.JSON, script, output);
+
+        assertEquals(1, failureCount);
+        assertEquals(List.of(
+                "{\"line\":1,\"command\":\"list\",\"success\":true,\"feedback\":\""
+                        + ListCommand.MESSAGE_SUCCESS_ALL + "\"}",
+                "{\"line\":3,\"command\":\"unknown \\\"quoted\\\"\",\"success\":false,\"feedback\":\""
+                        + MESSAGE_UNKNOWN_COMMAND + "\"}"),
+                output.toString().lines().toList());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws IOException {
+        String script = ExitCommand.COMMAND_WORD + "\n" + ADD_AMY_COMMAND + "\n";
+        StringWriter output = new StringWriter();
+
+        assertEquals(0, run(HeadlessApp.OutputFormat.TEXT, script, output));
+        assertEquals(List.of(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), output.toString().lines().toList());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void runBatch_jsonOutput_printsExecutedLines() throws Exception {
+        String script = "# adds Amy\n"
+                + ADD_AMY_COMMAND + "\n"
+                + "unknown\n"
+                + ListCommand.COMMAND_WORD + "\n";
+        StringWriter output = new StringWriter();
+
+        int failureCount = new HeadlessApp(logic, HeadlessApp.OutputFormat.JSON).runBatch(
+                new BufferedReader(new StringReader(script)), new PrintWriter(output), BatchExecutor.ErrorPolicy.STOP);
+
+        assertEquals(1, failureCount);
+        List<String> outputLines = output.toString().lines().toList();
+        assertEquals(2, outputLines.size());
+        assertTrue(outputLines.get(0).startsWith("{\"line\":2,\"command\":\"add "));
+        assertEquals("{\"line\":3,\"command\":\"unknown\",\"success\":false,\"feedback\":\""
+                + MESSAGE_UNKNOWN_COMMAND + "\"}", outputLines.get(1));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void launch_script_savesAddressBook() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("data.json");
+        Path configFilePath = writeConfig(addressBookFilePath);
+        Path scriptFilePath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptFilePath, ADD_AMY_COMMAND + "\n" + ADD_AMY_COMMAND + "\n");
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILURE, launch(HeadlessApp.HEADLESS_FLAG,
+                "--config=" + configFilePath, "--script=" + scriptFilePath, "--batch=continue"));
+
+        // Without a data file the app starts with an empty address book, not the sample one
+        Person expectedAmy = new PersonBuilder(AMY).withTags().build();
+        assertEquals(List.of(expectedAmy),
+                new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get().getPersonList());
+        assertEquals(List.of(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedAmy)),
+                String.format(HeadlessApp.MESSAGE_ERROR_FORMAT, AddCommand.MESSAGE_DUPLICATE_PERSON)),
+                launchOutput.toString(StandardCharsets.UTF_8).lines().toList());
+    }
+
+    @Test
+    public void launch_unreadableDataFile_failureAndDataFileKept() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("data.json");
+        Path configFilePath = writeConfig(addressBookFilePath);
+        Path scriptFilePath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptFilePath, ADD_AMY_COMMAND + "\n");
+        String truncatedData = "{ \"persons\": [ { \"name\": \"ALICE";
+        Files.writeString(addressBookFilePath, truncatedData);
+
+        assertEquals(HeadlessApp.EXIT_APP_FAILURE, launch(HeadlessApp.HEADLESS_FLAG,
+                "--config=" + configFilePath, "--script=" + scriptFilePath, "--batch=continue"));
+        assertEquals(truncatedData, Files.readString(addressBookFilePath));
+        assertEquals("", launchOutput.toString(StandardCharsets.UTF_8));
+        assertEquals(List.of(String.format(HeadlessApp.MESSAGE_INVALID_DATA_FILE, addressBookFilePath)),
+                launchError.toString(StandardCharsets.UTF_8).lines().toList());
+    }
+
+    @Test
+    public void launch_invalidArguments_failure() {
+        assertEquals(HeadlessApp.EXIT_APP_FAILURE, launch(HeadlessApp.HEADLESS_FLAG, "--output=xml"));
+        assertEquals(HeadlessApp.EXIT_APP_FAILURE, launch(HeadlessApp.HEADLESS_FLAG, "--script=a\0"));
+        assertEquals(HeadlessApp.EXIT_APP_FAILURE, launch(HeadlessApp.HEADLESS_FLAG, "--batch=retry"));
+        assertEquals(List.of(String.format(HeadlessApp.MESSAGE_INVALID_BATCH, "retry")),
+                launchError.toString(StandardCharsets.UTF_8).lines().toList());
+    }
+
+    /**
+     * Launches the app with {@code args}, keeping what it prints in {@code launchOutput} and {@code launchError}
+     * instead of the standard output and error.
+     *
+     * @return the exit status of the app.
+     */
+    private int launch(String... args) {
+        PrintStream standardOutput = System.out;
+        PrintStream standardError = System.err;
+        launchOutput.reset();
+        launchError.reset();
+        System.setOut(new PrintStream(launchOutput, true, StandardCharsets.UTF_8));
+        System.setErr(new PrintStream(launchError, true, StandardCharsets.UTF_8));
+        try {
+            return HeadlessApp.launch(List.of(args));
+        } finally {
+            System.setOut(standardOutput);
+            System.setErr(standardError);
+        }
+    }
+
+    /**
+     * Writes a config file, and the preferences it points to, that keep the address book at
+     * {@code addressBookFilePath}.
+     *
+     * @return the path of the config file.
+     */
+    private Path writeConfig(Path addressBookFilePath) throws IOException {
+        Path userPrefsFilePath = temporaryFolder.resolve("preferences.json");
+        Path configFilePath = temporaryFolder.resolve("config.json");
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        ConfigUtil.saveConfig(config, configFilePath);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+        return configFilePath;
+    }
+
+    private int run(HeadlessApp.OutputFormat outputFormat, String script, StringWriter output) throws IOException {
+        return new HeadlessApp(logic, outputFormat).run(new BufferedReader(new StringReader(script)),
+                new PrintWriter(output));
+    }
+}
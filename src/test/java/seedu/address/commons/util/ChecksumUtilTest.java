@@ -0,0 +1,92 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CheckedOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ChecksumUtilTest {
+
+    private static final String CONTENT = "{\n  \"persons\" : [ ]\n}";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void appendChecksum_nullContent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ChecksumUtil.appendChecksum(null));
+    }
+
+    @Test
+    public void appendChecksum_validChecksumAppended() throws Exception {
+        String text = ChecksumUtil.appendChecksum(CONTENT);
+        assertTrue(text.startsWith(CONTENT + "\n" + ChecksumUtil.CHECKSUM_LINE_PREFIX));
+        Path file = write(text);
+        assertTrue(ChecksumUtil.hasChecksum(file));
+        assertTrue(ChecksumUtil.isChecksumValid(file));
+    }
+
+    @Test
+    public void writeChecksumLine_sameAsAppendChecksum() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CheckedOutputStream out = ChecksumUtil.newChecksummedStream(bytes);
+        out.write((CONTENT + "\n").getBytes(StandardCharsets.UTF_8));
+        ChecksumUtil.writeChecksumLine(out);
+        assertEquals(ChecksumUtil.appendChecksum(CONTENT), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readChecksum_checksumLineRead() throws Exception {
+        String text = ChecksumUtil.appendChecksum(CONTENT);
+        String checksum = text.substring(text.lastIndexOf(ChecksumUtil.CHECKSUM_LINE_PREFIX)
+                + ChecksumUtil.CHECKSUM_LINE_PREFIX.length()).strip();
+        assertEquals(checksum, ChecksumUtil.readChecksum(write(text)));
+
+        // Not checked against the text before it
+        assertEquals(checksum, ChecksumUtil.readChecksum(write(text.replace("persons", "patients"))));
+        assertNull(ChecksumUtil.readChecksum(write(CONTENT)));
+    }
+
+    @Test
+    public void isChecksumValid_largeContent_validChecksum() throws Exception {
+        Path file = write(ChecksumUtil.appendChecksum("x".repeat(200_000)));
+        assertTrue(ChecksumUtil.isChecksumValid(file));
+    }
+
+    @Test
+    public void isChecksumValid_contentChanged_returnsFalse() throws Exception {
+        Path file = write(ChecksumUtil.appendChecksum(CONTENT).replace("persons", "patients"));
+        assertTrue(ChecksumUtil.hasChecksum(file));
+        assertFalse(ChecksumUtil.isChecksumValid(file));
+    }
+
+    @Test
+    public void isChecksumValid_checksumCutShort_returnsFalse() throws Exception {
+        String text = ChecksumUtil.appendChecksum(CONTENT);
+        assertFalse(ChecksumUtil.isChecksumValid(write(text.substring(0, text.length() - 3))));
+    }
+
+    @Test
+    public void noChecksum() throws Exception {
+        Path file = write(CONTENT);
+        assertFalse(ChecksumUtil.hasChecksum(file));
+        assertFalse(ChecksumUtil.isChecksumValid(file));
+        assertFalse(ChecksumUtil.hasChecksum(write("")));
+    }
+
+    private Path write(String text) throws Exception {
+        Path file = Files.createTempFile(testFolder, "checksum", ".txt");
+        Files.writeString(file, text);
+        return file;
+    }
+}
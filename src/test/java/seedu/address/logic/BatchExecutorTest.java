@@ -0,0 +1,135 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.APPOINTMENT_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.APPOINTMENT_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.BLOOD_TYPE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.BLOOD_TYPE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.DOB_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.DOB_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NOK_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NOK_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BatchExecutorTest {
+
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + DOB_DESC_AMY
+            + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + BLOOD_TYPE_AMY + APPOINTMENT_AMY + NOK_DESC_AMY;
+    private static final String ADD_BOB_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_BOB + DOB_DESC_BOB
+            + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB + BLOOD_TYPE_BOB + APPOINTMENT_BOB + NOK_DESC_BOB;
+
+    private static final Person EXPECTED_AMY = new PersonBuilder(AMY).withTags().build();
+    private static final Person EXPECTED_BOB = new PersonBuilder(BOB).withTags().withMedicalHistory().build();
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BatchExecutor(null));
+    }
+
+    @Test
+    public void execute_null_throwsNullPointerException() {
+        BatchExecutor batchExecutor = new BatchExecutor(BatchExecutor.ErrorPolicy.STOP);
+        assertThrows(NullPointerException.class, () -> batchExecutor.execute(null, model));
+        assertThrows(NullPointerException.class, () -> batchExecutor.execute(List.of(), null));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_allExecuted() {
+        List<String> lines = List.of("# onboarding", ADD_AMY_COMMAND, "   ", "  " + ADD_BOB_COMMAND);
+
+        BatchResult batchResult = new BatchExecutor(BatchExecutor.ErrorPolicy.STOP).execute(lines, model);
+
+        assertEquals(new BatchResult(List.of(
+                new BatchResult.LineResult(2, ADD_AMY_COMMAND, addedResult(EXPECTED_AMY)),
+                new BatchResult.LineResult(4, ADD_BOB_COMMAND, addedResult(EXPECTED_BOB))), false), batchResult);
+        assertEquals(0, batchResult.getFailureCount());
+        assertEquals(List.of(EXPECTED_AMY, EXPECTED_BOB), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_stopPolicy_stopsAtFailureAndKeepsEarlierChanges() {
+        List<String> lines = List.of(ADD_AMY_COMMAND, "delete 9", ADD_BOB_COMMAND);
+
+        BatchResult batchResult = new BatchExecutor(BatchExecutor.ErrorPolicy.STOP).execute(lines, model);
+
+        assertEquals(new BatchResult(List.of(
+                new BatchResult.LineResult(1, ADD_AMY_COMMAND, addedResult(EXPECTED_AMY)),
+                new BatchResult.LineResult(2, "delete 9", String.format(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, 1))),
+                true), batchResult);
+        assertEquals(1, batchResult.getFailureCount());
+        assertEquals(List.of(EXPECTED_AMY), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_stopPolicyFailureOnLastCommand_notStopped() {
+        BatchResult batchResult = new BatchExecutor(BatchExecutor.ErrorPolicy.STOP)
+                .execute(List.of("unknown", "# nothing after it"), model);
+        assertFalse(batchResult.isStopped());
+        assertEquals(1, batchResult.getFailureCount());
+    }
+
+    @Test
+    public void execute_continuePolicy_executesCommandsAfterFailure() {
+        List<String> lines = List.of(ADD_AMY_COMMAND, "unknown", ADD_AMY_COMMAND, ADD_BOB_COMMAND);
+
+        BatchResult batchResult = new BatchExecutor(BatchExecutor.ErrorPolicy.CONTINUE).execute(lines, model);
+
+        assertEquals(new BatchResult(List.of(
+                new BatchResult.LineResult(1, ADD_AMY_COMMAND, addedResult(EXPECTED_AMY)),
+                new BatchResult.LineResult(2, "unknown", MESSAGE_UNKNOWN_COMMAND),
+                new BatchResult.LineResult(3, ADD_AMY_COMMAND, AddCommand.MESSAGE_DUPLICATE_PERSON),
+                new BatchResult.LineResult(4, ADD_BOB_COMMAND, addedResult(EXPECTED_BOB))), false), batchResult);
+        assertEquals(2, batchResult.getFailureCount());
+        assertEquals(List.of(EXPECTED_AMY, EXPECTED_BOB), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_nestedScript_failure() {
+        BatchResult batchResult = new BatchExecutor(BatchExecutor.ErrorPolicy.CONTINUE)
+                .execute(List.of(RunCommand.COMMAND_WORD + " other.txt"), model);
+        assertEquals(List.of(new BatchResult.LineResult(1, RunCommand.COMMAND_WORD + " other.txt",
+                BatchExecutor.MESSAGE_NESTED_SCRIPT)), batchResult.getLineResults());
+    }
+
+    @Test
+    public void execute_exitCommand_stopsScript() {
+        BatchResult batchResult = new BatchExecutor(BatchExecutor.ErrorPolicy.CONTINUE)
+                .execute(List.of(ExitCommand.COMMAND_WORD, ADD_AMY_COMMAND), model);
+        assertTrue(batchResult.isStopped());
+        assertEquals(1, batchResult.getLineResults().size());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    private static CommandResult addedResult(Person person) {
+        return new CommandResult(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(person)));
+    }
+}
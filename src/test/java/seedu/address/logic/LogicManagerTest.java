@@ -17,6 +17,8 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -87,6 +89,59 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        logic = new LogicManager(model, createStorageThrowing(DUMMY_IO_EXCEPTION));
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS_ALL, model);
+    }
+
+    @Test
+    public void execute_commandAfterFailedSave_addressBookSavedAgain() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+        assertThrows(CommandException.class, String.format(LogicManager.FILE_OPS_ERROR_FORMAT,
+                DUMMY_IO_EXCEPTION.getMessage()), () -> logic.execute(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void executeBatch_validCommands_savedOnce() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount.incrementAndGet();
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + DOB_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + BLOOD_TYPE_AMY + APPOINTMENT_AMY + NOK_DESC_AMY;
+        BatchResult batchResult = logic.executeBatch(List.of(addCommand, "delete 1", addCommand),
+                BatchExecutor.ErrorPolicy.STOP);
+
+        assertEquals(3, batchResult.getLineResults().size());
+        assertEquals(1, saveCount.get());
+        assertEquals(List.of(new PersonBuilder(AMY).withTags().build()),
+                addressBookStorage.readAddressBook().get().getPersonList());
+
+        // nothing changed, so nothing is saved
+        logic.executeBatch(List.of(ListCommand.COMMAND_WORD), BatchExecutor.ErrorPolicy.STOP);
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void executeBatch_storageThrowsIoException_throwsCommandException() {
+        logic = new LogicManager(model, createStorageThrowing(DUMMY_IO_EXCEPTION));
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + DOB_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + BLOOD_TYPE_AMY + APPOINTMENT_AMY + NOK_DESC_AMY;
+        assertThrows(CommandException.class, String.format(LogicManager.FILE_OPS_ERROR_FORMAT,
+                DUMMY_IO_EXCEPTION.getMessage()), () -> logic.executeBatch(List.of(addCommand),
+                BatchExecutor.ErrorPolicy.STOP));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -146,15 +201,11 @@ public class LogicManagerTest {
     }
 
     /**
-     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
-     *
-     * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * Returns a Storage component with an AddressBookStorage that throws the IOException {@code e} when saving.
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private StorageManager createStorageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
@@ -165,9 +216,17 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        return new StorageManager(addressBookStorage, userPrefsStorage);
+    }
 
-        logic = new LogicManager(model, storage);
+    /**
+     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     *
+     * @param e the exception to be thrown by the Storage component
+     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     */
+    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        logic = new LogicManager(model, createStorageThrowing(e));
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + DOB_DESC_AMY + PHONE_DESC_AMY
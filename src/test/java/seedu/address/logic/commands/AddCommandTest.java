@@ -8,8 +8,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,7 +26,9 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.checkup.ScheduledCheckup;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -133,6 +139,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -148,6 +159,51 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getAssignedPatients(Person nurse) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasAssignedPatients(Person nurse) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduledCheckup> getCheckupsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduledCheckup> getCheckupsOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isNurseBooked(String nurseName, LocalDateTime dateTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> getPersonById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByQuery(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void focusFilteredPersonListOn(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isFilteredPersonListFocused() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.BatchExecutor;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null, BatchExecutor.ErrorPolicy.STOP));
+        assertThrows(NullPointerException.class, () -> new RunCommand(Paths.get("script.txt"), null));
+    }
+
+    @Test
+    public void execute_stopPolicy_reportsLinesUntilFailure() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptPath, "# removes Alice\ndelete 1\nunknown\ndelete 1\n");
+        RunCommand runCommand = new RunCommand(scriptPath, BatchExecutor.ErrorPolicy.STOP);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 2, scriptPath, 1, 1)
+                + String.format(RunCommand.MESSAGE_STOPPED, 3) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_SUCCESS, 2,
+                        String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(ALICE))) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILURE, 3, MESSAGE_UNKNOWN_COMMAND);
+        assertCommandSuccess(runCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_continuePolicy_reportsAllLines() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptPath, "unknown\ndelete 1\n");
+        RunCommand runCommand = new RunCommand(scriptPath, BatchExecutor.ErrorPolicy.CONTINUE);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 2, scriptPath, 1, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_FAILURE, 1, MESSAGE_UNKNOWN_COMMAND) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_SUCCESS, 2,
+                        String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(ALICE)));
+        assertCommandSuccess(runCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path scriptPath = temporaryFolder.resolve("missing.txt");
+        RunCommand runCommand = new RunCommand(scriptPath, BatchExecutor.ErrorPolicy.STOP);
+        assertCommandFailure(runCommand, model, String.format(RunCommand.MESSAGE_CANNOT_READ_SCRIPT, scriptPath));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Paths.get("a.txt"), BatchExecutor.ErrorPolicy.STOP);
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("a.txt"), BatchExecutor.ErrorPolicy.STOP)));
+        assertEquals(runCommand.hashCode(),
+                new RunCommand(Paths.get("a.txt"), BatchExecutor.ErrorPolicy.STOP).hashCode());
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different script -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("b.txt"), BatchExecutor.ErrorPolicy.STOP)));
+
+        // different error policy -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("a.txt"), BatchExecutor.ErrorPolicy.CONTINUE)));
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.ScheduleCommand.MESSAGE_CHECKUP_CLASH
 import static seedu.address.logic.commands.ScheduleCommand.MESSAGE_CHECKUP_CREATED;
 import static seedu.address.logic.commands.ScheduleCommand.MESSAGE_CHECKUP_DELETED;
 import static seedu.address.logic.commands.ScheduleCommand.MESSAGE_CHECKUP_DOES_NOT_EXIST;
+import static seedu.address.logic.commands.ScheduleCommand.MESSAGE_NURSE_CLASH;
 import static seedu.address.logic.commands.ScheduleCommand.MISSING_ASSIGNED_NURSE;
 import static seedu.address.model.checkup.Checkup.MESSAGE_PAST_DATE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -22,10 +23,12 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class ScheduleCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -156,6 +159,39 @@ public class ScheduleCommandTest {
         assertEquals(String.format(MESSAGE_CHECKUP_CLASH, "24/12/2025 10:00"), exception.getMessage());
     }
 
+    @Test
+    public void validPatientIndex_assignedNurseBooked_throwsCommandException() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Alice Pauline").withAppointment("Patient")
+                .withTags("Nurse Benson Meier").build());
+        addressBook.addPerson(new PersonBuilder().withName("Carl Kurz").withAppointment("Patient")
+                .withPhone("95352563").withTags("Nurse Benson Meier").build());
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        try {
+            command.execute(model);
+        } catch (CommandException e) {
+            fail("Execution should not throw an exception: " + e.getMessage());
+        }
+
+        Command nurseClashCommand = new ScheduleCommand(addCheckup, Index.fromZeroBased(1), checkupDate,
+                checkupTimeOne);
+        CommandException exception = assertThrows(CommandException.class, () -> {
+            nurseClashCommand.execute(model);
+        });
+        assertEquals(String.format(MESSAGE_NURSE_CLASH, "BENSON MEIER", "24/12/2025 10:15"),
+                exception.getMessage());
+
+        // nurse is free again 30 minutes after the start of her checkup
+        Command nurseFreeCommand = new ScheduleCommand(addCheckup, Index.fromZeroBased(1), checkupDate,
+                LocalTime.of(10, 30));
+        try {
+            nurseFreeCommand.execute(model);
+        } catch (CommandException e) {
+            fail("Execution should not throw an exception: " + e.getMessage());
+        }
+    }
+
     @Test
     public void validPatientIndex_pastDateTime() {
         Command pastDateCommand = new ScheduleCommand(addCheckup, patientIndexZero, pastDate, checkupTimeTen);
@@ -2,15 +2,24 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class ViewCommandTest {
@@ -47,6 +56,30 @@ public class ViewCommandTest {
         assertEquals(expected, result.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_validIndex_onlyViewedPersonShown() throws CommandException {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person viewedPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+
+        new ViewCommand(INDEX_SECOND_PERSON).execute(model);
+
+        assertTrue(model.isFilteredPersonListFocused());
+        assertEquals(Collections.singletonList(viewedPerson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_viewedPersonEdited_editedPersonStillShown() throws CommandException {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new ViewCommand(INDEX_SECOND_PERSON).execute(model);
+
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_BOB).build();
+        new EditCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+
+        assertTrue(model.isFilteredPersonListFocused());
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(VALID_PHONE_BOB, model.getFilteredPersonList().get(0).getPhone().value);
+    }
+
     @Test
     public void execute_invalidIndex_throwsCommandException() {
         Model model = new ModelManager();
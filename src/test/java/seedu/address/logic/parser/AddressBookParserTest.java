@@ -7,12 +7,14 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.BatchExecutor;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AssignCommand;
 import seedu.address.logic.commands.AssignDeleteCommand;
@@ -24,6 +26,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -112,6 +115,12 @@ public class AddressBookParserTest {
                 instanceof ScheduleCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("ward.txt"), BatchExecutor.ErrorPolicy.CONTINUE),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " " + RunCommand.CONTINUE_KEYWORD + " ward.txt"));
+    }
+
     @Test
     public void parseCommand_view() throws Exception {
         assertTrue(parser.parseCommand("view 1") instanceof ViewCommand);
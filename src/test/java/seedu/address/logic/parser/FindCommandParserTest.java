@@ -4,15 +4,24 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindNurseCommand;
 import seedu.address.logic.commands.FindPatientCommand;
+import seedu.address.model.person.BloodType;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.query.AttributeCondition;
+import seedu.address.model.query.CheckupDateCondition;
+import seedu.address.model.query.DateOfBirthCondition;
+import seedu.address.model.query.PersonAttribute;
+import seedu.address.model.query.PersonQuery;
 
 public class FindCommandParserTest {
 
@@ -60,6 +69,35 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_queryArgs_returnsFindCommandWithQuery() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonQuery(List.of(
+                new NameContainsKeywordsPredicate(Arrays.asList("alice", "bob")),
+                new AttributeCondition(PersonAttribute.APPOINTMENT, "Patient"),
+                new AttributeCondition(PersonAttribute.BLOOD_TYPE, "O+"),
+                new AttributeCondition(PersonAttribute.TAG, "friends"),
+                new AttributeCondition(PersonAttribute.MEDICAL_HISTORY, "Diabetes"),
+                new DateOfBirthCondition(LocalDate.of(1990, 1, 1), LocalDate.of(1999, 12, 31)),
+                new CheckupDateCondition(LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 1)))));
+        assertParseSuccess(parser, " Alice Bob ap/patient b/o+ t/friends mh/Diabetes "
+                + "dob/01/01/1990 to 31/12/1999 c/01/12/2025", expectedFindCommand);
+
+        // conditions without keywords
+        expectedFindCommand = new FindCommand(new PersonQuery(List.of(
+                new AttributeCondition(PersonAttribute.APPOINTMENT, "nurse"))));
+        assertParseSuccess(parser, " ap/Nurse", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidQueryArgs_throwsParseException() {
+        assertParseFailure(parser, " b/C+", BloodType.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ap/patient ap/nurse",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_APPOINTMENT));
+        assertParseFailure(parser, " dob/31/12/1999 to 01/01/1990", FindCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " c/30/02/2025", FindCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " c/01/12/2025 to", FindCommandParser.MESSAGE_INVALID_DATE_RANGE);
+    }
+
     @Test
     public void parse_nurseMissingIndex_returnsParseException() {
         String nurseMissingIndexErrorMessage = "Usage: find nurse of patient PATIENT_INDEX";
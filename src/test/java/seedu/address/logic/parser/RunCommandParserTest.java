@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.BatchExecutor;
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " scripts/new ward.txt ",
+                new RunCommand(Paths.get("scripts/new ward.txt"), BatchExecutor.ErrorPolicy.STOP));
+        assertParseSuccess(parser, " Continue  ward.txt",
+                new RunCommand(Paths.get("ward.txt"), BatchExecutor.ErrorPolicy.CONTINUE));
+
+        // a script named like the keyword
+        assertParseSuccess(parser, "continue",
+                new RunCommand(Paths.get("continue"), BatchExecutor.ErrorPolicy.STOP));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "ward\0.txt", String.format(RunCommandParser.MESSAGE_INVALID_PATH, "ward\0.txt"));
+    }
+}
@@ -7,6 +7,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -78,6 +80,72 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getModificationCount_personsChanged_countIncreases() {
+        long count = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(count, addressBook.getModificationCount());
+
+        Person alice = addressBook.getPersonList().get(0);
+        addressBook.setPerson(alice, new PersonBuilder(alice).withTags(VALID_TAG_HUSBAND).build());
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertTrue(addressBook.getModificationCount() > count);
+    }
+
+    @Test
+    public void getAssignedPatients_patientsAssignedToNurse_returnsPatientsInNameOrder() {
+        Person assignedCarl = new PersonBuilder(CARL).withTags("Nurse BENSON MEIER").build();
+        Person assignedAlice = new PersonBuilder(ALICE).withTags("Nurse BENSON MEIER").build();
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(assignedCarl);
+        addressBook.addPerson(assignedAlice);
+
+        assertTrue(addressBook.hasAssignedPatients(BENSON));
+        assertEquals(Arrays.asList(assignedAlice, assignedCarl), addressBook.getAssignedPatients(BENSON));
+    }
+
+    @Test
+    public void getAssignedPatients_assignmentRemoved_indexUpdated() {
+        Person assignedAlice = new PersonBuilder(ALICE).withTags("Nurse BENSON MEIER").build();
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(assignedAlice);
+
+        // assignment removed by editing the patient
+        Person unassignedAlice = new PersonBuilder(ALICE).withTags().build();
+        addressBook.setPerson(assignedAlice, unassignedAlice);
+        assertFalse(addressBook.hasAssignedPatients(BENSON));
+
+        // assignment removed by deleting the patient
+        addressBook.setPerson(unassignedAlice, assignedAlice);
+        assertTrue(addressBook.hasAssignedPatients(BENSON));
+        addressBook.removePerson(assignedAlice);
+        assertFalse(addressBook.hasAssignedPatients(BENSON));
+        assertEquals(Collections.emptyList(), addressBook.getAssignedPatients(BENSON));
+    }
+
+    @Test
+    public void getAssignedPatients_nurseTagOnNurse_notIndexed() {
+        Person taggedNurse = new PersonBuilder(CARL).withAppointment("Nurse").withTags("Nurse BENSON MEIER").build();
+        addressBook.addPerson(taggedNurse);
+        assertFalse(addressBook.hasAssignedPatients(BENSON));
+    }
+
+    @Test
+    public void resetData_withAssignedPatients_indexReplaced() {
+        Person assignedAlice = new PersonBuilder(ALICE).withTags("Nurse BENSON MEIER").build();
+        addressBook.addPerson(assignedAlice);
+        addressBook.resetData(new AddressBookStub(Collections.singletonList(CARL)));
+        assertFalse(addressBook.hasAssignedPatients(BENSON));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
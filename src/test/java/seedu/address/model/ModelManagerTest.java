@@ -7,16 +7,28 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasCheckupPredicate;
+import seedu.address.model.query.AttributeCondition;
+import seedu.address.model.query.PersonAttribute;
+import seedu.address.model.query.PersonQuery;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +105,132 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonListByQuery_nameKeywords_showsMatchingPersons() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), new UserPrefs());
+        modelManager.updateFilteredPersonListByQuery(
+                new PersonQuery(List.of(new NameContainsKeywordsPredicate(Arrays.asList("ali", "kurz")))));
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByQuery_personRenamedToMatchLater_shown() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(CARL).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonListByQuery(
+                new PersonQuery(List.of(new NameContainsKeywordsPredicate(Arrays.asList("meier")))));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByQuery_personEditedToMatchLater_shown() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(CARL).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonListByQuery(new PersonQuery(List.of(
+                new AttributeCondition(PersonAttribute.APPOINTMENT, "patient"),
+                new AttributeCondition(PersonAttribute.BLOOD_TYPE, "o+"))));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+        Person editedAlice = new PersonBuilder(alice).withBloodType("O+").build();
+        modelManager.setPerson(alice, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByEarliestCheckup_personsWithCheckups_sortedByEarliestCheckup() {
+        Person alice = new PersonBuilder(ALICE).withCheckups("03/03/2099 16:00", "01/04/2099 09:00").build();
+        Person benson = new PersonBuilder(BENSON).withCheckups("01/03/2099 12:00").build();
+        Person carl = new PersonBuilder(CARL).withCheckups("05/04/2099 09:00", "03/03/2099 09:00").build();
+        Person daniel = new PersonBuilder(DANIEL).withCheckups().build();
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(alice).withPerson(benson)
+                .withPerson(carl).withPerson(daniel).build(), new UserPrefs());
+
+        modelManager.updateFilteredPersonListByEarliestCheckup(new PersonHasCheckupPredicate());
+        assertEquals(Arrays.asList(benson, carl, alice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_samePredicate_listNotRefiltered() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(BENSON).withPerson(ALICE).build(),
+                new UserPrefs());
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void addPerson_showingAllPersons_personInsertedInNameOrder() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(CARL).build(),
+                new UserPrefs());
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Person> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasAdded() && !change.wasRemoved() && !change.wasPermutated());
+        assertEquals(1, change.getFrom());
+        assertEquals(1, change.getAddedSize());
+    }
+
+    @Test
+    public void addPerson_filteredList_predicateKept() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(CARL).build(),
+                new UserPrefs());
+        Predicate<Person> predicate = person -> !person.getName().equals(CARL.getName());
+        modelManager.updateFilteredPersonList(predicate);
+
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        modelManager.addPerson(new PersonBuilder(CARL).withPhone("99999999").build());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_showingAllPersons_personMovedToNameOrder() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), new UserPrefs());
+        Person alice = modelManager.getFilteredPersonList().get(0);
+        Person editedAlice = new PersonBuilder(alice).withName("Daniel Meier").build();
+
+        modelManager.setPerson(alice, editedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void focusFilteredPersonListOn_personNotInAddressBook_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> modelManager.focusFilteredPersonListOn(ALICE));
+    }
+
+    @Test
+    public void focusFilteredPersonListOn_personInAddressBook_onlyPersonShownUntilFilterUpdated() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        Person benson = modelManager.getFilteredPersonList().get(1);
+        modelManager.focusFilteredPersonListOn(benson);
+        assertTrue(modelManager.isFilteredPersonListFocused());
+        assertEquals(Arrays.asList(benson), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(benson).withName("Benson Meyer").build();
+        modelManager.setPerson(benson, editedBenson);
+        assertEquals(Arrays.asList(editedBenson), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertFalse(modelManager.isFilteredPersonListFocused());
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
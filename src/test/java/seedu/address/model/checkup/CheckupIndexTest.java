@@ -0,0 +1,141 @@
+package seedu.address.model.checkup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CheckupIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 12, 24);
+
+    private final Person alice = new PersonBuilder().withName("Alice Pauline")
+            .withTags("Nurse Benson Meier").withCheckups("24/12/2025 10:00", "25/12/2025 09:00").build();
+    private final Person carl = new PersonBuilder().withName("Carl Kurz")
+            .withCheckups("24/12/2025 09:30", "24/12/2025 10:00").build();
+
+    private ObservableList<Person> persons;
+    private CheckupIndex checkupIndex;
+
+    @BeforeEach
+    public void setUp() {
+        persons = FXCollections.observableArrayList();
+        checkupIndex = new CheckupIndex();
+        persons.addListener(checkupIndex);
+        persons.addAll(alice, carl);
+    }
+
+    @Test
+    public void getCheckupsBetween_nullDateTime_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> checkupIndex.getCheckupsBetween(null, DATE.atStartOfDay()));
+        assertThrows(NullPointerException.class, () -> checkupIndex.getCheckupsBetween(DATE.atStartOfDay(), null));
+    }
+
+    @Test
+    public void getCheckupsBetween_fromInclusiveToExclusive_returnsCheckupsInOrder() {
+        List<ScheduledCheckup> checkups = checkupIndex.getCheckupsBetween(DATE.atTime(9, 30), DATE.atTime(10, 0));
+        assertEquals(1, checkups.size());
+        assertSame(carl, checkups.get(0).getPatient());
+        assertEquals(DATE.atTime(9, 30), checkups.get(0).getDateTime());
+    }
+
+    @Test
+    public void getCheckupsBetween_emptyRange_returnsEmptyList() {
+        LocalDateTime dateTime = DATE.atTime(10, 0);
+        assertTrue(checkupIndex.getCheckupsBetween(dateTime, dateTime).isEmpty());
+        assertTrue(checkupIndex.getCheckupsBetween(dateTime, dateTime.minusHours(1)).isEmpty());
+    }
+
+    @Test
+    public void getCheckupsOn_date_returnsOnlyThatDay() {
+        List<ScheduledCheckup> checkups = checkupIndex.getCheckupsOn(DATE);
+        assertEquals(3, checkups.size());
+        assertEquals(DATE.atTime(9, 30), checkups.get(0).getDateTime());
+        assertEquals(DATE.atTime(10, 0), checkups.get(1).getDateTime());
+        assertEquals(DATE.atTime(10, 0), checkups.get(2).getDateTime());
+        assertEquals(1, checkupIndex.getCheckupsOn(DATE.plusDays(1)).size());
+    }
+
+    @Test
+    public void getCheckupsOn_patientWithNurse_nurseNamesRecorded() {
+        ScheduledCheckup checkup = checkupIndex.getCheckupsOn(DATE.plusDays(1)).get(0);
+        assertSame(alice, checkup.getPatient());
+        assertEquals(Set.of("BENSON MEIER"), checkup.getNurseNames());
+    }
+
+    @Test
+    public void isNurseBooked_checkupWithinThirtyMinutes_returnsTrue() {
+        assertTrue(checkupIndex.isNurseBooked("BENSON MEIER", DATE.atTime(10, 0)));
+        assertTrue(checkupIndex.isNurseBooked("Benson Meier", DATE.atTime(10, 15)));
+        assertTrue(checkupIndex.isNurseBooked("BENSON MEIER", DATE.atTime(9, 45)));
+    }
+
+    @Test
+    public void isNurseBooked_noCheckupWithinThirtyMinutes_returnsFalse() {
+        assertFalse(checkupIndex.isNurseBooked("BENSON MEIER", DATE.atTime(10, 30)));
+        assertFalse(checkupIndex.isNurseBooked("BENSON MEIER", DATE.atTime(9, 30)));
+        assertFalse(checkupIndex.isNurseBooked("BENSON MEIER", DATE.plusDays(2).atTime(10, 0)));
+        assertFalse(checkupIndex.isNurseBooked("CARL KURZ", DATE.atTime(10, 0)));
+    }
+
+    @Test
+    public void isNurseBooked_lastSlotOfDay_returnsTrue() {
+        persons.add(new PersonBuilder().withName("Daniel Meier").withPhone("87652533")
+                .withTags("Nurse Elle Meyer").withCheckups("24/12/2025 17:00").build());
+        assertTrue(checkupIndex.isNurseBooked("ELLE MEYER", DATE.atTime(16, 45)));
+        assertTrue(checkupIndex.isNurseBooked("ELLE MEYER", DATE.atTime(17, 0)));
+        assertFalse(checkupIndex.isNurseBooked("ELLE MEYER", DATE.atTime(16, 30)));
+    }
+
+    @Test
+    public void isNurseBooked_slotSharedWithOtherPatient_remainsBookedAfterRemoval() {
+        Person daniel = new PersonBuilder().withName("Daniel Meier").withPhone("87652533")
+                .withTags("Nurse Benson Meier").withCheckups("24/12/2025 10:15").build();
+        persons.add(daniel);
+
+        persons.remove(alice);
+        assertTrue(checkupIndex.isNurseBooked("BENSON MEIER", DATE.atTime(10, 0)));
+        assertFalse(checkupIndex.isNurseBooked("BENSON MEIER", DATE.atTime(10, 45)));
+        assertFalse(checkupIndex.isNurseBooked("BENSON MEIER", DATE.plusDays(1).atTime(9, 0)));
+
+        persons.remove(daniel);
+        assertFalse(checkupIndex.isNurseBooked("BENSON MEIER", DATE.atTime(10, 0)));
+    }
+
+    @Test
+    public void getCheckupsOn_personReplaced_indexUpdated() {
+        Person editedCarl = new PersonBuilder(carl).withCheckups("24/12/2025 16:00").build();
+        persons.set(persons.indexOf(carl), editedCarl);
+
+        List<ScheduledCheckup> checkups = checkupIndex.getCheckupsOn(DATE);
+        assertEquals(2, checkups.size());
+        assertSame(alice, checkups.get(0).getPatient());
+        assertSame(editedCarl, checkups.get(1).getPatient());
+    }
+
+    @Test
+    public void getCheckupsOn_personRemoved_indexUpdated() {
+        persons.remove(alice);
+        persons.add(BENSON);
+
+        List<ScheduledCheckup> checkups = checkupIndex.getCheckupsOn(DATE);
+        assertEquals(2, checkups.size());
+        assertTrue(checkups.stream().allMatch(checkup -> checkup.getPatient() == carl));
+        assertTrue(checkupIndex.getCheckupsOn(DATE.plusDays(1)).isEmpty());
+    }
+}
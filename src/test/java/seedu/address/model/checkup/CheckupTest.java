@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,13 @@ public class CheckupTest {
         }
     }
 
+    @Test
+    public void ofTrusted_pastDateTime_createsCheckup() throws Exception {
+        assertThrows(NullPointerException.class, () -> Checkup.ofTrusted(null));
+        Checkup checkup = Checkup.ofTrusted(LocalDateTime.of(2020, 1, 6, 9, 15));
+        assertEquals(new Checkup(LocalDate.of(2020, 1, 6), LocalTime.of(9, 15), false), checkup);
+    }
+
     @Test
     public void constructor_outsideBusinessHours_throwsParseException() {
         LocalDate checkupDate = LocalDate.of(2025, 12, 24);
@@ -21,6 +21,12 @@ public class MedicalHistoryTest {
         assertThrows(NullPointerException.class, () -> new MedicalHistory(null));
     }
 
+    @Test
+    public void ofTrusted() {
+        assertThrows(NullPointerException.class, () -> MedicalHistory.ofTrusted(null));
+        assertEquals(new MedicalHistory("Diabetes"), MedicalHistory.ofTrusted("Diabetes"));
+    }
+
     @Test
     public void isValidMedicalHistory() {
         assertTrue(MedicalHistory.isValidMedicalHistory("Diabetes"));
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,12 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void ofTrusted() {
+        assertThrows(NullPointerException.class, () -> Name.ofTrusted(null));
+        assertEquals(new Name("Valid Name"), Name.ofTrusted("VALID NAME"));
+    }
+
     @Test
     public void isValidName() {
         // null name
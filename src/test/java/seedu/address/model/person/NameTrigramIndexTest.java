@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private ObservableList<Person> persons;
+    private NameTrigramIndex nameIndex;
+
+    @BeforeEach
+    public void setUp() {
+        persons = FXCollections.observableArrayList();
+        nameIndex = new NameTrigramIndex();
+        persons.addListener(nameIndex);
+        persons.addAll(ALICE, BENSON, CARL, DANIEL);
+    }
+
+    @Test
+    public void getCandidates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.getCandidates(null));
+    }
+
+    @Test
+    public void getCandidates_noKeywords_returnsEmptySet() {
+        assertTrue(nameIndex.getCandidates(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void getCandidates_longKeyword_returnsPersonsWithAllTrigrams() {
+        // mixed case, part of a name
+        assertEquals(Set.of(BENSON, DANIEL), nameIndex.getCandidates(List.of("mEiE")));
+
+        // spread over two names
+        assertEquals(Set.of(ALICE, DANIEL), nameIndex.getCandidates(List.of("Alice", "Daniel")));
+
+        // unknown trigram
+        assertTrue(nameIndex.getCandidates(List.of("Meyer")).isEmpty());
+    }
+
+    @Test
+    public void getCandidates_shortKeyword_returnsPersonsContainingKeyword() {
+        assertEquals(Set.of(CARL), nameIndex.getCandidates(List.of("kU")));
+        assertEquals(Set.of(ALICE, BENSON, CARL, DANIEL), nameIndex.getCandidates(List.of("e", "r")));
+        assertEquals(Set.of(BENSON, DANIEL), nameIndex.getCandidates(List.of("MEI")));
+    }
+
+    @Test
+    public void getCandidates_allTrigramsButNotKeyword_returnsSupersetOfMatches() {
+        Person anna = new PersonBuilder().withName("Anna Nana").withPhone("91234567").build();
+        persons.add(anna);
+
+        // "ANNAN" is not in "ANNA NANA" but its trigrams ANN, NNA and NAN are
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("annan"));
+        Set<Person> candidates = nameIndex.getCandidates(predicate.getKeywords());
+        assertEquals(Set.of(anna), candidates);
+        assertTrue(candidates.stream().noneMatch(predicate));
+    }
+
+    @Test
+    public void getCandidates_personRenamed_indexUpdated() {
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        persons.set(persons.indexOf(CARL), editedCarl);
+
+        assertTrue(nameIndex.getCandidates(List.of("Kurz")).isEmpty());
+        assertEquals(Set.of(BENSON, editedCarl, DANIEL), nameIndex.getCandidates(List.of("Meier")));
+    }
+
+    @Test
+    public void getCandidates_personRemoved_indexUpdated() {
+        persons.remove(BENSON);
+        assertEquals(Set.of(DANIEL), nameIndex.getCandidates(List.of("Meier")));
+    }
+}
@@ -12,10 +12,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.checkup.Checkup;
 import seedu.address.testutil.PersonBuilder;
 
 
@@ -103,6 +108,28 @@ public class PersonTest {
         assertTrue(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getCheckups_unorderedCheckups_returnsChronologicalOrder() {
+        Person person = new PersonBuilder(BOB).withCheckups("24/12/2025 15:00", "24/12/2025 09:00",
+                "23/12/2025 16:00").build();
+        assertEquals(Arrays.asList("23/12/2025 16:00", "24/12/2025 09:00", "24/12/2025 15:00"),
+                person.getCheckups().stream().map(Checkup::toString).collect(Collectors.toList()));
+        assertEquals("23/12/2025 16:00", person.getEarliestCheckup().get().toString());
+        assertFalse(new PersonBuilder(BOB).build().getEarliestCheckup().isPresent());
+    }
+
+    @Test
+    public void earliestCheckupOrder() {
+        Person early = new PersonBuilder(BOB).withCheckups("24/12/2025 15:00", "23/12/2025 09:00").build();
+        Person late = new PersonBuilder(ALICE).withCheckups("23/12/2025 10:00").build();
+        Person noCheckup = new PersonBuilder(ALICE).withCheckups().build();
+
+        List<Person> persons = new ArrayList<>(Arrays.asList(noCheckup, late, early));
+        persons.sort(Person.EARLIEST_CHECKUP_ORDER);
+        assertEquals(Arrays.asList(early, late, noCheckup), persons);
+        assertEquals(0, Person.EARLIEST_CHECKUP_ORDER.compare(noCheckup, noCheckup));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
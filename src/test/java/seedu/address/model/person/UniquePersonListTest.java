@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -12,6 +13,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +49,12 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameIdentityButSpacedPhone_returnsTrue() {
+        uniquePersonList.add(new PersonBuilder(ALICE).withPhone("94351253").build());
+        assertTrue(uniquePersonList.contains(new PersonBuilder(ALICE).withPhone("9435 1253").build()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +110,18 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_targetIdentityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        // the identity of the replaced person can be reused
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +147,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_identityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +191,78 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicateIdentities_listUnchanged() {
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Arrays.asList(ALICE,
+                editedAlice)));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void add_personWithoutId_givenNewId() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person storedAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        Person storedBob = uniquePersonList.asUnmodifiableObservableList().get(1);
+        assertTrue(storedAlice.hasId());
+        assertTrue(storedBob.hasId());
+        assertNotEquals(storedAlice.getId(), storedBob.getId());
+        assertEquals(Optional.of(storedBob), uniquePersonList.getById(storedBob.getId()));
+    }
+
+    @Test
+    public void add_personWithIdInUse_givenNewId() {
+        uniquePersonList.add(ALICE.withId(7));
+        uniquePersonList.add(BOB.withId(7));
+        assertEquals(7, uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().get(1).getId() > 7);
+    }
+
+    @Test
+    public void setPerson_editedPersonWithoutId_keepsTargetId() {
+        uniquePersonList.add(ALICE);
+        Person storedAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(storedAlice, editedAlice);
+
+        Person storedEditedAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        assertEquals(storedAlice.getId(), storedEditedAlice.getId());
+        assertEquals(Optional.of(storedEditedAlice), uniquePersonList.getById(storedAlice.getId()));
+    }
+
+    @Test
+    public void remove_existingPerson_laterPersonsStillFoundById() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person storedBob = uniquePersonList.asUnmodifiableObservableList().get(1);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(Optional.of(storedBob), uniquePersonList.getById(storedBob.getId()));
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(storedBob, editedBob);
+        assertEquals(Collections.singletonList(editedBob), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_existingPerson_idNotReused() {
+        uniquePersonList.add(ALICE);
+        long aliceId = uniquePersonList.asUnmodifiableObservableList().get(0).getId();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+
+        assertTrue(uniquePersonList.getById(aliceId).isEmpty());
+        assertNotEquals(aliceId, uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+    }
+
+    @Test
+    public void setPersons_listWithIds_idsKept() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB.withId(1)));
+        assertEquals(1, uniquePersonList.asUnmodifiableObservableList().get(1).getId());
+        assertEquals(2, uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,74 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonAttributeIndexTest {
+
+    private final Person daniel = new PersonBuilder().withName("Daniel Meier").withPhone("87652533")
+            .withDateOfBirth("15/06/1990").withBloodType("O+").withTags("friends").build();
+
+    private ObservableList<Person> persons;
+    private PersonAttributeIndex attributeIndex;
+
+    @BeforeEach
+    public void setUp() {
+        persons = FXCollections.observableArrayList();
+        attributeIndex = new PersonAttributeIndex();
+        persons.addListener(attributeIndex);
+        persons.addAll(ALICE, BENSON, daniel);
+    }
+
+    @Test
+    public void getPersonsWith_valueInAnyCase_returnsPersonsWithValue() {
+        assertEquals(Set.of(ALICE, daniel), attributeIndex.getPersonsWith(PersonAttribute.APPOINTMENT, "PATIENT"));
+        assertEquals(Set.of(BENSON, daniel), attributeIndex.getPersonsWith(PersonAttribute.TAG, "Friends"));
+        assertEquals(Set.of(ALICE), attributeIndex.getPersonsWith(PersonAttribute.MEDICAL_HISTORY, "diabetes"));
+        assertTrue(attributeIndex.getPersonsWith(PersonAttribute.BLOOD_TYPE, "A-").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWith_modifyResult_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                attributeIndex.getPersonsWith(PersonAttribute.BLOOD_TYPE, "O+").clear());
+    }
+
+    @Test
+    public void getPersonsBornBetween_range_returnsPersonsInRange() {
+        LocalDate from = LocalDate.of(1990, 6, 15);
+        LocalDate to = LocalDate.of(2000, 12, 31);
+        assertEquals(Set.of(daniel), attributeIndex.getPersonsBornBetween(from, to));
+        assertEquals(1, attributeIndex.countPersonsBornBetween(from, to));
+        assertEquals(3, attributeIndex.countPersonsBornBetween(from, LocalDate.of(2001, 1, 1)));
+        assertTrue(attributeIndex.getPersonsBornBetween(to, from).isEmpty());
+        assertEquals(0, attributeIndex.countPersonsBornBetween(to, from));
+    }
+
+    @Test
+    public void getPersonsWith_personReplacedAndRemoved_indexUpdated() {
+        Person editedDaniel = new PersonBuilder(daniel).withBloodType("A-").withDateOfBirth("01/01/1980").build();
+        persons.set(persons.indexOf(daniel), editedDaniel);
+        assertTrue(attributeIndex.getPersonsWith(PersonAttribute.BLOOD_TYPE, "O+").isEmpty());
+        assertEquals(Set.of(editedDaniel), attributeIndex.getPersonsWith(PersonAttribute.BLOOD_TYPE, "A-"));
+        assertEquals(Set.of(editedDaniel), attributeIndex.getPersonsBornBetween(LocalDate.of(1980, 1, 1),
+                LocalDate.of(1980, 1, 1)));
+
+        persons.remove(editedDaniel);
+        assertTrue(attributeIndex.getPersonsWith(PersonAttribute.BLOOD_TYPE, "A-").isEmpty());
+        assertEquals(Set.of(BENSON), attributeIndex.getPersonsWith(PersonAttribute.TAG, "FRIENDS"));
+    }
+}
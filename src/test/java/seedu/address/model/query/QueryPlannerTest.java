@@ -0,0 +1,155 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasCheckupPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private final Person daniel = new PersonBuilder().withName("Daniel Meier").withPhone("87652533")
+            .withDateOfBirth("15/06/1990").withBloodType("O+").withTags("friends").build();
+
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON, CARL, daniel));
+    }
+
+    @Test
+    public void plan_nullArguments_throwsNullPointerException() {
+        PersonQuery query = new PersonQuery(List.of(new AttributeCondition(PersonAttribute.BLOOD_TYPE, "O+")));
+        assertThrows(NullPointerException.class, () -> QueryPlanner.plan(null, addressBook));
+        assertThrows(NullPointerException.class, () -> QueryPlanner.plan(query, null));
+    }
+
+    @Test
+    public void plan_noIndexedCondition_testsEveryPerson() {
+        QueryCondition hasCheckup = new CheckupFreeCondition();
+        QueryPlan plan = QueryPlanner.plan(new PersonQuery(List.of(hasCheckup)), addressBook);
+        assertFalse(plan.getCandidates().isPresent());
+        assertEquals(List.of(hasCheckup), plan.getConditionsToTest());
+    }
+
+    @Test
+    public void plan_indexedConditions_candidatesIntersectedAndOnlyInexactConditionsTested() {
+        NameContainsKeywordsPredicate meier = new NameContainsKeywordsPredicate(Arrays.asList("meier"));
+        AttributeCondition bloodType = new AttributeCondition(PersonAttribute.BLOOD_TYPE, "o+");
+        DateOfBirthCondition nineties = new DateOfBirthCondition(LocalDate.of(1990, 1, 1),
+                LocalDate.of(1999, 12, 31));
+        QueryPlan plan = QueryPlanner.plan(new PersonQuery(List.of(meier, bloodType, nineties)), addressBook);
+
+        assertEquals(Set.of(personNamed("Daniel Meier")), plan.getCandidates().get());
+        assertEquals(List.of(meier), plan.getConditionsToTest());
+    }
+
+    @Test
+    public void plan_mostSelectiveConditionFirst_largerLookupsTestedInstead() {
+        RecordingCondition selective = new RecordingCondition(1);
+        RecordingCondition broad = new RecordingCondition(QueryPlanner.INTERSECTION_LIMIT + 1);
+        QueryPlan plan = QueryPlanner.plan(new PersonQuery(List.of(broad, selective)), addressBook);
+
+        assertTrue(selective.isLookedUp);
+        assertFalse(broad.isLookedUp);
+        assertEquals(List.of(broad), plan.getConditionsToTest());
+    }
+
+    @Test
+    public void test_plannedQuery_sameResultAsQuery() {
+        List<PersonQuery> queries = List.of(
+                new PersonQuery(List.of(new AttributeCondition(PersonAttribute.APPOINTMENT, "patient"),
+                        new AttributeCondition(PersonAttribute.MEDICAL_HISTORY, "diabetes"))),
+                new PersonQuery(List.of(new NameContainsKeywordsPredicate(Arrays.asList("e")),
+                        new AttributeCondition(PersonAttribute.TAG, "FRIENDS"))),
+                new PersonQuery(List.of(new CheckupDateCondition(LocalDate.of(2025, 12, 12),
+                        LocalDate.of(2025, 12, 31)), new CheckupFreeCondition())),
+                new PersonQuery(List.of(new DateOfBirthCondition(LocalDate.of(2001, 1, 1),
+                        LocalDate.of(2001, 1, 1)))));
+
+        for (PersonQuery query : queries) {
+            QueryPlan plan = QueryPlanner.plan(query, addressBook);
+            List<Person> expected = addressBook.getPersonList().stream().filter(query).collect(Collectors.toList());
+            List<Person> actual = addressBook.getPersonList().stream().filter(plan).collect(Collectors.toList());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void test_candidatesReleased_personsTestedAgainstWholeQuery() {
+        PersonQuery query = new PersonQuery(List.of(new AttributeCondition(PersonAttribute.BLOOD_TYPE, "O+")));
+        QueryPlan plan = QueryPlanner.plan(query, addressBook);
+        Person editedCarl = new PersonBuilder(CARL).withBloodType("O+").build();
+        assertFalse(plan.test(editedCarl));
+
+        plan.releaseCandidates();
+        assertTrue(plan.test(editedCarl));
+    }
+
+    private Person personNamed(String name) {
+        return addressBook.getPersonList().stream()
+                .filter(person -> person.getName().fullName.equalsIgnoreCase(name)).findFirst().get();
+    }
+
+    /**
+     * A condition without an index that accepts persons without checkups.
+     */
+    private static class CheckupFreeCondition implements QueryCondition {
+        @Override
+        public boolean test(Person person) {
+            return !new PersonHasCheckupPredicate().test(person);
+        }
+    }
+
+    /**
+     * A condition with a fixed estimate that records whether its candidates were looked up.
+     */
+    private static class RecordingCondition implements IndexedCondition {
+        private final int estimate;
+        private boolean isLookedUp;
+
+        RecordingCondition(int estimate) {
+            this.estimate = estimate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return true;
+        }
+
+        @Override
+        public int estimateCandidates(PersonIndexes indexes) {
+            return estimate;
+        }
+
+        @Override
+        public Set<Person> getCandidates(PersonIndexes indexes) {
+            isLookedUp = true;
+            Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            candidates.addAll(new ArrayList<>(indexes.getPersonsWith(PersonAttribute.BLOOD_TYPE, "O+")));
+            return candidates;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.NurseAssignmentIndex;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class SyntheticDataGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_INVALID_PERSON_COUNT, () ->
+                new SyntheticDataGenerator(1, -1));
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_INVALID_PATIENTS_PER_NURSE, () ->
+                new SyntheticDataGenerator(1, 10, 0, SyntheticDataGenerator.DEFAULT_FIRST_CHECKUP_DATE));
+        assertThrows(NullPointerException.class, () -> new SyntheticDataGenerator(1, 10, 8, null));
+    }
+
+    @Test
+    public void getPerson_sameSeed_samePerson() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7, 100);
+        for (int i = 0; i < 100; i++) {
+            Person person = generator.getPerson(i);
+            Person again = new SyntheticDataGenerator(7, 100).getPerson(i);
+            assertNotSame(person, again);
+            assertEquals(person, again);
+            assertEquals(person.getTags(), again.getTags());
+            assertEquals(i + 1, person.getId());
+        }
+        assertNotEquals(generator.getPerson(1), new SyntheticDataGenerator(8, 100).getPerson(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.getPerson(100));
+    }
+
+    @Test
+    public void asAddressBook_validWards() {
+        int patientsPerNurse = 5;
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(3, 600, patientsPerNurse,
+                SyntheticDataGenerator.DEFAULT_FIRST_CHECKUP_DATE);
+        // Adding the persons to an address book checks that they are all different persons
+        AddressBook addressBook = new AddressBook(generator.asAddressBook());
+        List<Person> persons = addressBook.getPersonList();
+        assertEquals(600, persons.size());
+
+        Set<String> nurseNames = new HashSet<>();
+        persons.stream().filter(Person::isNurse).forEach(nurse -> nurseNames.add(nurse.getName().fullName));
+        // Nurses are assigned by name, so no two nurses share a name
+        assertEquals(100, persons.stream().filter(Person::isNurse).count());
+        assertEquals(100, nurseNames.size());
+
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        boolean hasSecondNurse = false;
+        for (Person person : persons) {
+            Set<String> assignedNurseNames = NurseAssignmentIndex.getAssignedNurseNames(person);
+            if (person.isNurse()) {
+                assertTrue(assignedNurseNames.isEmpty());
+                assertTrue(person.getCheckups().isEmpty());
+                continue;
+            }
+            assertFalse(assignedNurseNames.isEmpty());
+            assertTrue(assignedNurseNames.size() <= NurseAssignmentIndex.MAX_NURSES_PER_PATIENT);
+            assertTrue(nurseNames.containsAll(assignedNurseNames));
+            hasSecondNurse |= assignedNurseNames.size() > 1;
+
+            for (Checkup checkup : person.getCheckups()) {
+                LocalTime time = checkup.getCheckupTime();
+                assertEquals(0, time.getMinute() % 15);
+                assertFalse(time.isBefore(LocalTime.of(9, 0)));
+                assertTrue(time.isBefore(LocalTime.of(17, 0)));
+                // No other checkup of the patient's nurses is less than 30 minutes away
+                for (String nurseName : assignedNurseNames) {
+                    assertEquals(1, model.getCheckupsBetween(checkup.checkupDateTime.minusMinutes(29),
+                            checkup.checkupDateTime.plusMinutes(30)).stream()
+                            .filter(scheduled -> NurseAssignmentIndex.getAssignedNurseNames(scheduled.getPatient())
+                                    .contains(nurseName))
+                            .count());
+                }
+            }
+        }
+        assertTrue(hasSecondNurse);
+    }
+
+    @Test
+    public void asAddressBook_savedToStorage_sameAsGenerated() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(5, 200, 8, LocalDate.of(2020, 1, 6));
+        new JsonAddressBookStorage(filePath).saveAddressBook(generator.asAddressBook());
+
+        AddressBook expected = new AddressBook(generator.asAddressBook());
+        assertEquals(expected.getPersonList(),
+                new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList());
+    }
+}
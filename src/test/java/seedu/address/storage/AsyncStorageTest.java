@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private RecordingStorage recordingStorage;
+    private AsyncStorage asyncStorage;
+
+    @BeforeEach
+    public void setUp() {
+        recordingStorage = new RecordingStorage(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+        asyncStorage = new AsyncStorage(recordingStorage);
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_addressBookWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        asyncStorage.saveAddressBook(original);
+        asyncStorage.flushAddressBook();
+        assertEquals(original, new AddressBook(recordingStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(asyncStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_snapshotWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        asyncStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        asyncStorage.flushAddressBook();
+        assertEquals(getTypicalAddressBook(), new AddressBook(recordingStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriting_latestSnapshotWrittenOnce() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch writeReleased = new CountDownLatch(1);
+        recordingStorage.beforeFirstWrite = () -> {
+            writeStarted.countDown();
+            writeReleased.await(5, TimeUnit.SECONDS);
+        };
+
+        AddressBook original = getTypicalAddressBook();
+        asyncStorage.saveAddressBook(original);
+        assertTrue(writeStarted.await(5, TimeUnit.SECONDS));
+        original.addPerson(HOON);
+        asyncStorage.saveAddressBook(original);
+        original.addPerson(IDA);
+        asyncStorage.saveAddressBook(original);
+        writeReleased.countDown();
+        asyncStorage.flushAddressBook();
+
+        assertEquals(2, recordingStorage.writtenAddressBooks.size());
+        assertEquals(original, new AddressBook(recordingStorage.writtenAddressBooks.get(1)));
+        assertEquals(original, new AddressBook(recordingStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_failureHandledAndSnapshotWrittenOnFlush() throws Exception {
+        IOException failure = new IOException("disk full");
+        recordingStorage.beforeFirstWrite = () -> {
+            throw failure;
+        };
+        CompletableFuture<IOException> handledFailure = new CompletableFuture<>();
+        asyncStorage.setWriteFailureHandler(handledFailure::complete);
+
+        AddressBook original = getTypicalAddressBook();
+        asyncStorage.saveAddressBook(original);
+        assertSame(failure, handledFailure.get(5, TimeUnit.SECONDS));
+
+        asyncStorage.flushAddressBook();
+        assertEquals(original, new AddressBook(recordingStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_writeFails_throwsIoException() throws Exception {
+        CountDownLatch writeReleased = new CountDownLatch(1);
+        recordingStorage.beforeFirstWrite = () -> {
+            writeReleased.await(5, TimeUnit.SECONDS);
+            throw new IOException("disk full");
+        };
+        asyncStorage.saveAddressBook(getTypicalAddressBook());
+        recordingStorage.beforeEveryWrite = () -> {
+            throw new IOException("disk still full");
+        };
+        writeReleased.countDown();
+        assertThrows(IOException.class, () -> asyncStorage.flushAddressBook());
+    }
+
+    /**
+     * A {@code StorageManager} that records the address books written to it, and can run code before they are written.
+     */
+    private static class RecordingStorage extends StorageManager {
+        private final List<ReadOnlyAddressBook> writtenAddressBooks = new ArrayList<>();
+        private volatile BeforeWrite beforeFirstWrite = () -> {};
+        private volatile BeforeWrite beforeEveryWrite = () -> {};
+        private boolean hasWritten;
+
+        RecordingStorage(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+            super(addressBookStorage, userPrefsStorage);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            try {
+                if (!hasWritten) {
+                    hasWritten = true;
+                    beforeFirstWrite.run();
+                } else {
+                    beforeEveryWrite.run();
+                }
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            super.saveAddressBook(addressBook, filePath);
+            writtenAddressBooks.add(addressBook);
+        }
+    }
+
+    private interface BeforeWrite {
+        void run() throws IOException, InterruptedException;
+    }
+}
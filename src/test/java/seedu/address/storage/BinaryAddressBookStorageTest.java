@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("AddressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertSameIds(original.getPersonList(), readBack.getPersonList());
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertSameIds(original.getPersonList(), readBack.getPersonList());
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_emptyAddressBook_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath, false);
+        binaryAddressBookStorage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("AddressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_switchFormats_dataKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        // A json data file is read by the binary storage, and saved as a snapshot
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+        original.addPerson(HOON);
+        binaryAddressBookStorage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinarySnapshot(filePath));
+
+        // The snapshot is read by the json storage
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_checksumMismatch_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        binaryAddressBookStorage.saveAddressBook(original);
+        AddressBook edited = new AddressBook(original);
+        edited.addPerson(HOON);
+        binaryAddressBookStorage.saveAddressBook(edited);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertEquals(original, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath, false);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(DataLoadingException.class, () -> binaryAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath, false);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        // A valid snapshot from a later version of the app
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        buffer.putInt(Integer.BYTES, BinarySnapshot.VERSION + 1);
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.array(), 0, buffer.capacity() - Integer.BYTES);
+        buffer.putInt(buffer.capacity() - Integer.BYTES, (int) checksum.getValue());
+        Files.write(filePath, buffer.array());
+
+        assertThrows(IllegalValueException.class,
+                String.format(BinarySnapshot.MESSAGE_UNSUPPORTED_VERSION, BinarySnapshot.VERSION + 1), () ->
+                BinarySnapshot.read(buffer.rewind()));
+        assertThrows(DataLoadingException.class, () -> binaryAddressBookStorage.readAddressBook());
+    }
+
+    private static void assertSameIds(List<Person> expected, List<Person> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), actual.get(i).getId());
+        }
+    }
+}
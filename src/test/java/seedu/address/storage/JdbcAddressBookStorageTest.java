@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JdbcAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getDatabaseFilePath() {
+        assertEquals(testFolder.resolve("addressbook.mv.db"),
+                JdbcAddressBookStorage.getDatabaseFilePath(testFolder.resolve("addressbook.json")));
+        assertEquals(testFolder.resolve("ab.mv.db"),
+                JdbcAddressBookStorage.getDatabaseFilePath(testFolder.resolve("ab")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JdbcAddressBookStorage(testFolder.resolve("addressbook.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JdbcAddressBookStorage storage = new JdbcAddressBookStorage(filePath);
+
+        // Save in new database and read back
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(JdbcAddressBookStorage.getDatabaseFilePath(filePath)));
+        ReadOnlyAddressBook readBack = new JdbcAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        // Add, edit and delete persons, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(CARL, new PersonBuilder(CARL).withPhone("99999999").withTags("Nurse IDA MUELLER")
+                .withMedicalHistory("Asthma").build());
+        storage.saveAddressBook(original);
+        readBack = new JdbcAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.getPersonList().get(i).getId());
+            assertEquals(original.getPersonList().get(i).getTags(), readBack.getPersonList().get(i).getTags());
+        }
+
+        // Save to another file, every person written
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(original, otherFilePath);
+        assertEquals(original.getPersonList(), storage.readAddressBook(otherFilePath).get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangesWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JdbcAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JdbcAddressBookStorage storage = new JdbcAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(new PersonBuilder(IDA).build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook.getPersonList(),
+                new JdbcAddressBookStorage(filePath).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_pastCheckup_kept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = new AddressBook();
+        original.addPerson(new Person(ALICE.getName(), ALICE.getDateOfBirth(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getBloodType(), ALICE.getAppointment(), ALICE.getTags(),
+                ALICE.getNextOfKin(), ALICE.getMedicalHistory(),
+                Set.of(new Checkup(LocalDate.of(2020, 1, 6), LocalTime.of(9, 15), false))));
+        JdbcAddressBookStorage storage = new JdbcAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        assertEquals(original.getPersonList().get(0).getCheckups(),
+                new JdbcAddressBookStorage(filePath).readAddressBook().get().getPersonList().get(0).getCheckups());
+    }
+
+    @Test
+    public void readAddressBook_noDatabase_dataFileRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JdbcAddressBookStorage storage = new JdbcAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.saveAddressBook(original);
+        assertEquals(original.getPersonList(),
+                new JdbcAddressBookStorage(filePath).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_null_throwsNullPointerException() {
+        JdbcAddressBookStorage storage = new JdbcAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(new AddressBook(), null));
+        assertThrows(NullPointerException.class, () -> new JdbcAddressBookStorage(null));
+    }
+}
@@ -0,0 +1,250 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ChecksumUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonAddressBookStorage snapshotStorage;
+    private JournaledAddressBookStorage journaledStorage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        snapshotStorage = new JsonAddressBookStorage(filePath);
+        journaledStorage = new JournaledAddressBookStorage(snapshotStorage, 5);
+    }
+
+    @Test
+    public void constructor_nonPositiveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JournaledAddressBookStorage(snapshotStorage, 0));
+    }
+
+    @Test
+    public void readAddressBook_noSnapshotOrJournal_emptyResult() throws Exception {
+        assertFalse(journaledStorage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_snapshotWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        assertEquals(original, snapshotStorage.readAddressBook().get());
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSnapshot_journaledAndReplayed() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        Person alice = original.getPersonList().get(0);
+        original.setPerson(alice, new PersonBuilder(alice).withBloodType("O+").build());
+        original.removePerson(original.getPersonList().get(1));
+        journaledStorage.saveAddressBook(original);
+
+        // The snapshot line, followed by a line for each change
+        assertEquals(1 + 3, Files.readAllLines(journaledStorage.getJournalFilePath()).size());
+        assertEquals(getTypicalAddressBook(), snapshotStorage.readAddressBook().get());
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(snapshotStorage).readAddressBook().get();
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_journaledPastCheckup_kept() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        original.addPerson(new Person(HOON.getName(), HOON.getDateOfBirth(), HOON.getPhone(), HOON.getEmail(),
+                HOON.getAddress(), HOON.getBloodType(), HOON.getAppointment(), HOON.getTags(),
+                HOON.getNextOfKin(), HOON.getMedicalHistory(),
+                Set.of(new Checkup(LocalDate.of(2024, 1, 8), LocalTime.of(9, 15), false))));
+        journaledStorage.saveAddressBook(original);
+        assertEquals(1 + 1, Files.readAllLines(journaledStorage.getJournalFilePath()).size());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(snapshotStorage).readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getPersonList().get(original.getPersonList().size() - 1).getCheckups(),
+                readBack.getPersonList().get(readBack.getPersonList().size() - 1).getCheckups());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        journaledStorage.saveAddressBook(original);
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_snapshotRewrittenAndJournalCleared() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+
+        for (int i = 0; i < 4; i++) {
+            Person alice = original.getPersonList().get(0);
+            original.setPerson(alice, new PersonBuilder(alice).withPhone("9435125" + i).build());
+            journaledStorage.saveAddressBook(original);
+        }
+        assertEquals(1 + 4, Files.readAllLines(journaledStorage.getJournalFilePath()).size());
+
+        original.addPerson(IDA);
+        journaledStorage.saveAddressBook(original);
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+        assertEquals(original, snapshotStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void flushAddressBook_journaledChanges_snapshotRewrittenAndJournalCleared() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journaledStorage.saveAddressBook(original);
+
+        journaledStorage.flushAddressBook();
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+        assertEquals(original, snapshotStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastLine_skippedAndSnapshotRewrittenOnNextSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journaledStorage.saveAddressBook(original);
+        Files.writeString(journaledStorage.getJournalFilePath(), "{\"op\":\"put\",\"id\":",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage recoveredStorage = new JournaledAddressBookStorage(snapshotStorage, 5);
+        AddressBook recovered = new AddressBook(recoveredStorage.readAddressBook().get());
+        assertEquals(original, recovered);
+
+        recovered.addPerson(IDA);
+        recoveredStorage.saveAddressBook(recovered);
+        assertFalse(Files.exists(recoveredStorage.getJournalFilePath()));
+        assertEquals(recovered, snapshotStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_dataFileDamaged_previousGenerationReadAndJournalDiscarded() throws Exception {
+        AddressBook previousGeneration = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(previousGeneration);
+        AddressBook original = new AddressBook(previousGeneration);
+        original.addPerson(IDA);
+        journaledStorage.saveAddressBook(original);
+        journaledStorage.flushAddressBook();
+        original.addPerson(HOON);
+        journaledStorage.saveAddressBook(original);
+
+        // The journal holds the changes made after IDA was added, which the previous generation does not have
+        Files.writeString(filePath, Files.readString(filePath).replaceFirst("\"name\" : \"", "\"name\" : \"X"));
+        JournaledAddressBookStorage recoveredStorage = new JournaledAddressBookStorage(snapshotStorage, 5);
+        AddressBook recovered = new AddressBook(recoveredStorage.readAddressBook().get());
+        assertEquals(previousGeneration, recovered);
+        assertFalse(Files.exists(recoveredStorage.getJournalFilePath()));
+
+        recovered.addPerson(HOON);
+        recoveredStorage.saveAddressBook(recovered);
+        assertFalse(Files.exists(recoveredStorage.getJournalFilePath()));
+        assertEquals(recovered, snapshotStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_dataFileEditedWithoutChecksumLine_journalDiscarded() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        AddressBook edited = new AddressBook(original);
+        edited.addPerson(HOON);
+        journaledStorage.saveAddressBook(edited);
+
+        // Edited by hand as the user guide asks, so it no longer ends with the checksum the journal was started against
+        Files.writeString(filePath, Files.readString(filePath).lines()
+                .filter(line -> !line.startsWith(ChecksumUtil.CHECKSUM_LINE_PREFIX))
+                .collect(Collectors.joining("\n")));
+        assertEquals(original, new JournaledAddressBookStorage(snapshotStorage).readAddressBook().get());
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_binarySnapshot_journalReplayed() throws Exception {
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        JournaledAddressBookStorage journaledBinaryStorage = new JournaledAddressBookStorage(binaryStorage, 5);
+        AddressBook original = getTypicalAddressBook();
+        journaledBinaryStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journaledBinaryStorage.saveAddressBook(original);
+
+        assertEquals(original, new JournaledAddressBookStorage(binaryStorage).readAddressBook().get());
+        assertTrue(Files.exists(journaledBinaryStorage.getJournalFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_journalWithoutSnapshotLine_replayed() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        Person alice = original.getPersonList().get(0);
+        Files.write(journaledStorage.getJournalFilePath(), List.of("{\"op\":\"remove\",\"id\":" + alice.getId() + "}"));
+
+        original.removePerson(alice);
+        assertEquals(original, new JournaledAddressBookStorage(snapshotStorage).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptEntryBeforeLastLine_throwsDataLoadingException() throws Exception {
+        journaledStorage.saveAddressBook(getTypicalAddressBook());
+        Files.write(journaledStorage.getJournalFilePath(), List.of("not json", "{\"op\":\"remove\",\"id\":1}"));
+        assertThrows(DataLoadingException.class, () -> journaledStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        journaledStorage.saveAddressBook(getTypicalAddressBook());
+        Files.write(journaledStorage.getJournalFilePath(), List.of("{\"op\":\"move\",\"id\":1}"));
+        assertThrows(DataLoadingException.class, () -> journaledStorage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_savedInFullWithoutJournal() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE);
+        journaledStorage.saveAddressBook(original, otherFilePath);
+
+        assertEquals(original, journaledStorage.readAddressBook(otherFilePath).get());
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+        assertTrue(Files.exists(otherFilePath));
+    }
+}
@@ -13,8 +13,10 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.DateOfBirth;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 
 public class JsonAdaptedPersonTest {
@@ -52,6 +54,22 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_validId_returnsPersonWithId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(42L, VALID_NAME, VALID_DOB, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, VALID_BLOODTYPE, VALID_APPOINTMENT, VALID_NEXTOFKIN, VALID_TAGS, VALID_MEDICAL_HISTORY,
+                VALID_CHECKUP);
+        assertEquals(42, person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(0L, VALID_NAME, VALID_DOB, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, VALID_BLOODTYPE, VALID_APPOINTMENT, VALID_NEXTOFKIN, VALID_TAGS, VALID_MEDICAL_HISTORY,
+                VALID_CHECKUP);
+        assertThrows(IllegalValueException.class, JsonAdaptedPerson.INVALID_ID_MESSAGE, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -139,4 +157,51 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
+    @Test
+    public void toTrustedModelType_validPersonDetails_sameAsToModelType() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(42L, VALID_NAME, VALID_DOB, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, VALID_BLOODTYPE, VALID_APPOINTMENT, VALID_NEXTOFKIN, VALID_TAGS, VALID_MEDICAL_HISTORY,
+                VALID_CHECKUP);
+        Person expected = person.toModelType();
+        Person trusted = person.toTrustedModelType();
+        assertEquals(expected, trusted);
+        assertEquals(expected.getId(), trusted.getId());
+        assertEquals(expected.getTags(), trusted.getTags());
+        assertEquals(expected.getCheckups(), trusted.getCheckups());
+        assertEquals(expected.getMedicalHistory(), trusted.getMedicalHistory());
+    }
+
+    @Test
+    public void toTrustedModelType_invalidName_notValidated() throws Exception {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(INVALID_NAME, VALID_DOB, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_BLOODTYPE,
+                        VALID_APPOINTMENT, VALID_NEXTOFKIN, VALID_TAGS, VALID_MEDICAL_HISTORY, VALID_CHECKUP);
+        assertEquals(INVALID_NAME, person.toTrustedModelType().getName().fullName);
+    }
+
+    @Test
+    public void toTrustedModelType_nullPhone_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_DOB, null, VALID_EMAIL, VALID_ADDRESS,
+                VALID_BLOODTYPE, VALID_APPOINTMENT, VALID_NEXTOFKIN, VALID_TAGS, VALID_MEDICAL_HISTORY, VALID_CHECKUP);
+
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, person::toTrustedModelType);
+    }
+
+    @Test
+    public void toTrustedModelType_unreadableDates_throwsIllegalValueException() {
+        JsonAdaptedPerson invalidDob = new JsonAdaptedPerson(VALID_NAME, "1/1/2000", VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, VALID_BLOODTYPE, VALID_APPOINTMENT, VALID_NEXTOFKIN, VALID_TAGS, VALID_MEDICAL_HISTORY,
+                VALID_CHECKUP);
+        assertThrows(IllegalValueException.class, DateOfBirth.MESSAGE_CONSTRAINTS, invalidDob::toTrustedModelType);
+
+        JsonAdaptedPerson invalidCheckup = new JsonAdaptedPerson(VALID_NAME, VALID_DOB, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, VALID_BLOODTYPE, VALID_APPOINTMENT, VALID_NEXTOFKIN, VALID_TAGS, VALID_MEDICAL_HISTORY,
+                List.of(new JsonAdaptedCheckup("06/01/2020", null)));
+        assertThrows(IllegalValueException.class, JsonAdaptedCheckup.MESSAGE_INVALID_CHECKUP,
+                invalidCheckup::toTrustedModelType);
+        assertThrows(IllegalValueException.class, JsonAdaptedCheckup.MESSAGE_INVALID_CHECKUP,
+                invalidCheckup::toModelType);
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,23 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ChecksumUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -107,4 +116,106 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void saveAddressBook_existingFile_checksumWrittenAndPreviousGenerationKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        String firstGeneration = Files.readString(filePath);
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertTrue(ChecksumUtil.isChecksumValid(filePath));
+        assertEquals(firstGeneration, Files.readString(previousGenerationOf(filePath)));
+        assertFalse(Files.exists(testFolder.resolve("TempAddressBook.json" + JsonAddressBookStorage.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void readAddressBook_checksumMismatch_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook edited = new AddressBook(original);
+        edited.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(edited);
+
+        // Data corrupted after the save, but still valid json
+        Files.writeString(filePath, Files.readString(filePath).replaceFirst("\"name\" : \"", "\"name\" : \"X"));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_checksumMismatch_dataFileSetAsideAndPreviousGenerationKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // Edited by hand without removing the checksum line
+        String edited = Files.readString(filePath).replaceFirst("\"name\" : \"", "\"name\" : \"X");
+        Files.writeString(filePath, edited);
+        String previousGeneration = Files.readString(previousGenerationOf(filePath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        Path rejectedFilePath = FileAddressBookStorage.siblingOf(filePath, FileAddressBookStorage.REJECTED_FILE_SUFFIX);
+        assertEquals(edited, Files.readString(rejectedFilePath));
+        assertFalse(Files.exists(filePath));
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(previousGeneration, Files.readString(previousGenerationOf(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_checksumMismatchWithoutPreviousGeneration_throwsDataLoadingException()
+            throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(filePath, Files.readString(filePath).replaceFirst("\"name\" : \"", "\"name\" : \"X"));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_dataFileMissing_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // Cut short between moving the data file away and moving the new one in
+        Files.delete(filePath);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_pastCheckupWithAndWithoutChecksum_sameResult() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+        AddressBook original = new AddressBook();
+        original.addPerson(new Person(ALICE.getName(), ALICE.getDateOfBirth(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getBloodType(), ALICE.getAppointment(), ALICE.getTags(),
+                ALICE.getNextOfKin(), ALICE.getMedicalHistory(),
+                Set.of(new Checkup(LocalDate.of(2020, 1, 6), LocalTime.of(9, 15), false))));
+        jsonAddressBookStorage.saveAddressBook(original);
+        ReadOnlyAddressBook withChecksum = jsonAddressBookStorage.readAddressBook().get();
+
+        // Removed as the user guide asks before editing the file by hand
+        Files.writeString(filePath, Files.readString(filePath).lines()
+                .filter(line -> !line.startsWith(ChecksumUtil.CHECKSUM_LINE_PREFIX))
+                .collect(Collectors.joining("\n")));
+        ReadOnlyAddressBook withoutChecksum = jsonAddressBookStorage.readAddressBook().get();
+
+        assertEquals(original.getPersonList(), withoutChecksum.getPersonList());
+        assertEquals(original.getPersonList().get(0).getCheckups(), withChecksum.getPersonList().get(0).getCheckups());
+        assertEquals(withChecksum.getPersonList().get(0).getCheckups(),
+                withoutChecksum.getPersonList().get(0).getCheckups());
+    }
+
+    private static Path previousGenerationOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JsonAddressBookStorage.PREVIOUS_GENERATION_FILE_SUFFIX);
+    }
 }
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookWriterTest {
+
+    @Test
+    public void toJsonString_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonAddressBookWriter().toJsonString(null));
+    }
+
+    @Test
+    public void toJsonString_emptyAddressBook_sameAsJsonUtil() throws Exception {
+        assertSameAsJsonUtil(new JsonAddressBookWriter(), new AddressBook());
+    }
+
+    @Test
+    public void toJsonString_typicalAddressBook_sameAsJsonUtil() throws Exception {
+        assertSameAsJsonUtil(new JsonAddressBookWriter(), getTypicalAddressBook());
+    }
+
+    @Test
+    public void toJsonString_addressBookChanged_onlyPersonsWrittenKept() throws Exception {
+        JsonAddressBookWriter writer = new JsonAddressBookWriter();
+        AddressBook addressBook = getTypicalAddressBook();
+        assertSameAsJsonUtil(writer, addressBook);
+        assertEquals(addressBook.getPersonList().size(), writer.getCachedPersonCount());
+
+        // Edited person encoded again, the other persons reused
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        addressBook.setPerson(addressBook.getPersonList().get(1), editedBenson);
+        addressBook.addPerson(HOON);
+        assertSameAsJsonUtil(writer, addressBook);
+        assertEquals(addressBook.getPersonList().size(), writer.getCachedPersonCount());
+
+        // Removed person no longer kept
+        addressBook.removePerson(ALICE);
+        assertSameAsJsonUtil(writer, addressBook);
+        assertEquals(addressBook.getPersonList().size(), writer.getCachedPersonCount());
+    }
+
+    private static void assertSameAsJsonUtil(JsonAddressBookWriter writer, ReadOnlyAddressBook addressBook)
+            throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                writer.toJsonString(addressBook));
+    }
+}
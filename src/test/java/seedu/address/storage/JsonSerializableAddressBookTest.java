@@ -1,16 +1,30 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +33,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdAddressBook.json");
+    private static final Path MIXED_ID_FILE = TEST_DATA_FOLDER.resolve("mixedIdAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +60,162 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_personsWithAndWithoutIds_savedIdsKept() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(MIXED_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        List<Person> persons = addressBookFromFile.getPersonList();
+        assertEquals(1, persons.get(1).getId());
+        assertTrue(persons.get(0).hasId());
+        assertNotEquals(1, persons.get(0).getId());
+    }
+
+    @Test
+    public void toModelType_savedAddressBook_idsKept() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        AddressBook addressBookFromJson = new JsonSerializableAddressBook(typicalPersonsAddressBook).toModelType();
+        assertEquals(typicalPersonsAddressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList()),
+                addressBookFromJson.getPersonList().stream().map(Person::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void toModelType_manyPersons_orderKept() throws Exception {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = getManyJsonAdaptedPersons();
+        List<Person> persons = new JsonSerializableAddressBook(jsonAdaptedPersons).toModelType().getPersonList();
+        assertEquals(jsonAdaptedPersons.size(), persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(i + 1, persons.get(i).getId());
+        }
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithErrors_firstErrorThrown() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = getManyJsonAdaptedPersons();
+        jsonAdaptedPersons.set(3000, getJsonAdaptedPerson("99999999", 7));
+        jsonAdaptedPersons.set(4000, getJsonAdaptedPerson("99999998", -1));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID, () ->
+                new JsonSerializableAddressBook(jsonAdaptedPersons).toModelType());
+
+        jsonAdaptedPersons.set(2000, getJsonAdaptedPerson("99999997", -2));
+        assertThrows(IllegalValueException.class, JsonAdaptedPerson.INVALID_ID_MESSAGE, () ->
+                new JsonSerializableAddressBook(jsonAdaptedPersons).toModelType());
+    }
+
+    @Test
+    public void toModelType_duplicatePersonBeforeInvalidPerson_duplicatePersonThrown() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = getManyJsonAdaptedPersons();
+        // The duplicate is in a later batch than the person it duplicates, and before the invalid person
+        jsonAdaptedPersons.set(JsonSerializableAddressBook.BATCH_SIZE + 10, getJsonAdaptedPerson("80000010", 99999));
+        jsonAdaptedPersons.set(JsonSerializableAddressBook.BATCH_SIZE + 20, getJsonAdaptedPerson("99999997", -2));
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(jsonAdaptedPersons);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                jsonAddressBook::toModelType);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readModelType(JsonUtil.toJsonString(jsonAddressBook)));
+    }
+
+    @Test
+    public void readModelType_manyPersons_sameAsToModelType() throws Exception {
+        JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(getManyJsonAdaptedPersons());
+        AddressBook expected = jsonAddressBook.toModelType();
+        AddressBook addressBook = readModelType(JsonUtil.toJsonString(jsonAddressBook));
+        assertEquals(expected, addressBook);
+        assertEquals(expected.getPersonList().stream().map(Person::getId).collect(Collectors.toList()),
+                addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void readModelType_typicalPersonsFile_sameAsToModelType() throws Exception {
+        AddressBook expected = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        AddressBook addressBookFromFile = readModelType(TYPICAL_PERSONS_FILE);
+        assertEquals(expected, addressBookFromFile);
+        assertEquals(expected.getPersonList().stream().map(Person::getId).collect(Collectors.toList()),
+                addressBookFromFile.getPersonList().stream().map(Person::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void readModelType_trustedSavedAddressBook_sameAsSaved() throws Exception {
+        // Only files saved by the app are trusted, so their values are already in the form the model keeps them in
+        AddressBook expected = TypicalPersons.getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(expected));
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        AddressBook trusted;
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(bytes))) {
+            trusted = JsonSerializableAddressBook.readModelType(parser, true);
+        }
+        assertEquals(expected, trusted);
+        assertEquals(expected.getPersonList(), trusted.getPersonList());
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readModelType(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicateIds_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID, () ->
+                readModelType(DUPLICATE_ID_FILE));
+    }
+
+    @Test
+    public void readModelType_otherFieldsAndTrailingText_ignored() throws Exception {
+        AddressBook addressBook = readModelType("{ \"version\" : { \"major\" : 1 }, \"persons\" : [ ] }\n#end");
+        assertTrue(addressBook.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void readModelType_notAddressBook_throwsJsonParseException() {
+        assertThrows(JsonParseException.class, () -> readModelType("[ ]"));
+        assertThrows(JsonParseException.class, () -> readModelType("{ \"version\" : 1 }"));
+        assertThrows(JsonParseException.class, () -> readModelType("{ \"persons\" : { } }"));
+        assertThrows(JsonParseException.class, () -> readModelType("{ \"persons\" : [ 1 ] }"));
+        assertThrows(JsonParseException.class, () -> readModelType("{ \"persons\" : [ ]"));
+    }
+
+    private static AddressBook readModelType(Path file) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(file))) {
+            return JsonSerializableAddressBook.readModelType(parser);
+        }
+    }
+
+    private static AddressBook readModelType(String json) throws IOException, IllegalValueException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(bytes))) {
+            return JsonSerializableAddressBook.readModelType(parser);
+        }
+    }
+
+    /**
+     * Returns more persons than fit in a batch, with ids from 1 in order.
+     */
+    private static List<JsonAdaptedPerson> getManyJsonAdaptedPersons() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableAddressBook.BATCH_SIZE + 1000; i++) {
+            Person person = new PersonBuilder().withPhone(String.valueOf(80000000 + i)).build().withId(i + 1);
+            jsonAdaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        return jsonAdaptedPersons;
+    }
+
+    private static JsonAdaptedPerson getJsonAdaptedPerson(String phone, long id) {
+        return new JsonAdaptedPerson(new PersonBuilder().withPhone(phone).build().withId(id));
+    }
+
 }
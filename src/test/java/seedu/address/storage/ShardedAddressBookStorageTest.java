@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ShardedAddressBookStorage(null));
+        assertThrows(NullPointerException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("addressbook.json"), null, false));
+    }
+
+    @Test
+    public void byNurse() {
+        Person patientOfIda = new PersonBuilder(ALICE).withTags("Nurse IDA MUELLER", "Nurse BENSON MEIER").build();
+        assertEquals(BENSON.getName().fullName, ShardedAddressBookStorage.BY_NURSE.apply(patientOfIda));
+        assertEquals(IDA.getName().fullName, ShardedAddressBookStorage.BY_NURSE.apply(IDA));
+        assertEquals(ShardedAddressBookStorage.UNASSIGNED_SHARD_KEY, ShardedAddressBookStorage.BY_NURSE.apply(CARL));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("addressbook.json")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        // Save in new directory and read back
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        // Modify data, overwrite existing shards, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        // Save empty address book
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook()
+                .get()));
+        assertEquals(Set.of(ShardedAddressBookStorage.MANIFEST_FILE_NAME), getShardDirectoryFileNames(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsShardWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath,
+                person -> person.getName().fullName, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> firstFileNames = getShardDirectoryFileNames(filePath);
+        assertEquals(addressBook.getPersonList().size() + 1, firstFileNames.size());
+
+        // Unchanged address book, nothing written
+        storage.saveAddressBook(addressBook);
+        assertEquals(firstFileNames, getShardDirectoryFileNames(filePath));
+
+        // One shard replaced, the replaced file deleted
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        addressBook.setPerson(addressBook.getPersonList().get(2), editedCarl);
+        storage.saveAddressBook(addressBook);
+        Set<String> secondFileNames = getShardDirectoryFileNames(filePath);
+        assertEquals(firstFileNames.size(), secondFileNames.size());
+        secondFileNames.removeAll(firstFileNames);
+        assertEquals(1, secondFileNames.size());
+
+        assertEquals(addressBook.getPersonList(),
+                new ShardedAddressBookStorage(filePath).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_unchangedShardsNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Set<String> fileNames = getShardDirectoryFileNames(filePath);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(addressBook);
+        assertEquals(fileNames, getShardDirectoryFileNames(filePath));
+    }
+
+    @Test
+    public void readAddressBook_noManifest_dataFileRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(ShardedAddressBookStorage.getShardDirectoryPath(filePath)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_shardMissing_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Path shardDirectoryPath = ShardedAddressBookStorage.getShardDirectoryPath(filePath);
+        String shardFileName = getShardDirectoryFileNames(filePath).stream()
+                .filter(fileName -> !fileName.equals(ShardedAddressBookStorage.MANIFEST_FILE_NAME))
+                .findFirst().get();
+        Files.delete(shardDirectoryPath.resolve(shardFileName));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path manifestFilePath = ShardedAddressBookStorage.getShardDirectoryPath(filePath)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        Files.createDirectories(manifestFilePath.getParent());
+
+        Files.writeString(manifestFilePath,
+                "{ \"shards\" : [ { \"key\" : \"A\", \"file\" : \"../addressbook.json\" } ] }");
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+
+        Files.writeString(manifestFilePath, "not json");
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_null_throwsNullPointerException() {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("addressbook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(new AddressBook(), null));
+    }
+
+    private static Set<String> getShardDirectoryFileNames(Path filePath) throws Exception {
+        try (Stream<Path> files = Files.list(ShardedAddressBookStorage.getShardDirectoryPath(filePath))) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
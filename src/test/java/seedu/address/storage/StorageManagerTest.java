@@ -2,6 +2,8 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -60,6 +63,22 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void createAddressBookStorage() {
+        Path filePath = getTempFilePath("ab");
+        assertTrue(StorageManager.createAddressBookStorage(AddressBookFormat.JSON, filePath)
+                instanceof JsonAddressBookStorage);
+        assertTrue(StorageManager.createAddressBookStorage(AddressBookFormat.BINARY, filePath)
+                instanceof BinaryAddressBookStorage);
+        assertTrue(StorageManager.createAddressBookStorage(AddressBookFormat.SHARDED, filePath)
+                instanceof ShardedAddressBookStorage);
+        assertTrue(StorageManager.createAddressBookStorage(AddressBookFormat.DATABASE, filePath)
+                instanceof JdbcAddressBookStorage);
+        assertEquals(filePath,
+                StorageManager.createAddressBookStorage(AddressBookFormat.BINARY, filePath).getAddressBookFilePath());
+        assertThrows(NullPointerException.class, () -> StorageManager.createAddressBookStorage(null, filePath));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
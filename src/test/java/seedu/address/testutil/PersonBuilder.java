@@ -167,8 +167,12 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Builds the {@code Person} with the details set so far.
+     */
     public Person build() {
-        return new Person(name, dob, phone, email, address, bloodType, appointment, tags, nextOfKin, medicalHistory);
+        return new Person(name, dob, phone, email, address, bloodType, appointment, tags, nextOfKin, medicalHistory,
+                checkups);
     }
 
 }